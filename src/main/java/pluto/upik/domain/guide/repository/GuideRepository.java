@@ -1,6 +1,7 @@
 package pluto.upik.domain.guide.repository;
 
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pluto.upik.domain.guide.data.model.Guide;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -95,4 +98,40 @@ public interface GuideRepository extends JpaRepository<Guide, UUID> {
     @Transactional
     @Query("update Guide g set g.revoteCount = g.revoteCount - 1 where g.id = :id and g.revoteCount > 0")
     int decrementRevoteCount(@Param("id") UUID id);
-}
\ No newline at end of file
+
+    /**
+     * 특정 카테고리 가이드 목록의 첫 페이지를 최신순으로 조회합니다.
+     *
+     * @param category 카테고리
+     * @param limit 조회할 최대 개수
+     * @return 가이드 목록
+     */
+    @Query("SELECT g FROM Guide g WHERE g.category = :category ORDER BY g.createdAt DESC, g.id DESC")
+    List<Guide> findFirstPageByCategory(@Param("category") String category, Limit limit);
+
+    /**
+     * 커서 이후의 특정 카테고리 가이드 목록을 최신순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * @param category 카테고리
+     * @param createdAt 커서의 생성일
+     * @param id 커서의 가이드 ID
+     * @param limit 조회할 최대 개수
+     * @return 가이드 목록
+     */
+    @Query("SELECT g FROM Guide g WHERE g.category = :category " +
+            "AND (g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.id < :id)) " +
+            "ORDER BY g.createdAt DESC, g.id DESC")
+    List<Guide> findPageByCategoryAfter(@Param("category") String category,
+                                        @Param("createdAt") LocalDate createdAt,
+                                        @Param("id") UUID id,
+                                        Limit limit);
+
+    /**
+     * 주어진 ID 중 가이드로 존재하는 ID만 조회합니다.
+     *
+     * @param ids 확인할 ID 목록
+     * @return 존재하는 가이드 ID 목록
+     */
+    @Query("SELECT g.id FROM Guide g WHERE g.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+}
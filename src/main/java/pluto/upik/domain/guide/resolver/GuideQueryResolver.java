@@ -1,5 +1,6 @@
 package pluto.upik.domain.guide.resolver;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -38,6 +39,22 @@ public class GuideQueryResolver {
         return guides;
     }
     
+    /**
+     * 특정 카테고리에 속한 가이드 목록을 최신순 커서 기반으로 조회합니다.
+     *
+     * @param category 조회할 카테고리
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 가이드 Connection
+     */
+    @SchemaMapping(typeName = "Query", field = "guidesByCategoryConnection")
+    public Connection<GuideResponse> getGuidesByCategoryConnection(@Argument String category,
+                                                                   @Argument Integer first,
+                                                                   @Argument String after) {
+        log.info("GraphQL query guidesByCategoryConnection called with category: {}, first: {}", category, first);
+        return guideQueryService.findByCategory(category, first, after);
+    }
+
     /**
      * 특정 ID의 가이드를 상세 조회합니다.
      *
@@ -1,8 +1,10 @@
 package pluto.upik.domain.guide.service;
 
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
@@ -10,7 +12,9 @@ import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.pagination.CursorPagination;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -42,13 +46,7 @@ public class GuideQueryService implements GuideQueryServiceInterface {
             }
 
             List<GuideResponse> responses = guides.stream()
-                    .map(guide -> GuideResponse.builder()
-                            .id(guide.getId())
-                            .title(guide.getTitle())
-                            .content(guide.getContent())
-                            .createdAt(guide.getCreatedAt())
-                            .like(guide.getLike() != null ? guide.getLike().intValue() : 0) // likeCount → like로 변경 및 null 체크 추가
-                            .build())
+                    .map(this::toGuideResponse)
                     .collect(Collectors.toList());
 
             log.info("Number of guides found: {}", responses.size());
@@ -61,6 +59,31 @@ public class GuideQueryService implements GuideQueryServiceInterface {
         }
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection<GuideResponse> findByCategory(String category, Integer first, String after) {
+        log.info("카테고리별 가이드 페이지 조회 - category: {}, first: {}, after: {}", category, first, after);
+
+        int pageSize = CursorPagination.pageSize(first);
+        Limit limit = CursorPagination.fetchLimit(pageSize);
+        List<Guide> guides;
+        if (after == null) {
+            guides = guideRepository.findFirstPageByCategory(category, limit);
+        } else {
+            List<String> keys = CursorPagination.decode(after, 2);
+            guides = guideRepository.findPageByCategoryAfter(
+                    category, LocalDate.parse(keys.get(0)), UUID.fromString(keys.get(1)), limit);
+        }
+
+        return CursorPagination.toConnection(
+                guides.stream().map(this::toGuideResponse).toList(),
+                pageSize,
+                after != null,
+                guide -> CursorPagination.encode(guide.getCreatedAt(), guide.getId()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -96,4 +119,14 @@ public class GuideQueryService implements GuideQueryServiceInterface {
             throw new BusinessException("가이드 상세 조회 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    private GuideResponse toGuideResponse(Guide guide) {
+        return GuideResponse.builder()
+                .id(guide.getId())
+                .title(guide.getTitle())
+                .content(guide.getContent())
+                .createdAt(guide.getCreatedAt())
+                .like(guide.getLike() != null ? guide.getLike().intValue() : 0) // likeCount → like로 변경 및 null 체크 추가
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package pluto.upik.domain.guide.service;
 
+import graphql.relay.Connection;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
 
@@ -20,6 +21,16 @@ public interface GuideQueryServiceInterface {
      * @throws pluto.upik.shared.exception.BusinessException 조회 중 오류 발생 시
      */
     List<GuideResponse> findByCategory(String category);
+
+    /**
+     * 특정 카테고리에 속한 가이드 목록을 최신순 커서 기반으로 조회합니다.
+     *
+     * @param category 조회할 카테고리
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 가이드 Connection
+     */
+    Connection<GuideResponse> findByCategory(String category, Integer first, String after);
     
     /**
      * 특정 ID의 가이드를 상세 조회합니다.
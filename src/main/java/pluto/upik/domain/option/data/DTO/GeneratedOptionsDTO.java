@@ -0,0 +1,17 @@
+package pluto.upik.domain.option.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI가 구조화 출력(JSON)으로 생성한 영어 선택지 목록
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeneratedOptionsDTO {
+    private List<String> options;
+}
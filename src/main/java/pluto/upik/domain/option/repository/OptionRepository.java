@@ -1,10 +1,13 @@
 package pluto.upik.domain.option.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.vote.data.model.Vote;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +16,13 @@ import java.util.UUID;
 public interface OptionRepository extends JpaRepository<Option, UUID> {
     List<Option> findByVoteId(UUID voteId);
 
+    // 여러 투표의 옵션을 한 번에 조회
+    List<Option> findByVoteIdIn(Collection<UUID> voteIds);
+
+    // 투표 응답 검증용: 옵션과 소속 투표를 한 번에 조회
+    @Query("SELECT o FROM Option o JOIN FETCH o.vote WHERE o.id = :optionId")
+    Optional<Option> findWithVoteById(@Param("optionId") UUID optionId);
+
     // 추가된 메서드
     Optional<Option> findTopByVoteOrderByIdAsc(Vote vote);
 }
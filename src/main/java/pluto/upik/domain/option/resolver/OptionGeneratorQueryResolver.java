@@ -12,6 +12,8 @@ import pluto.upik.domain.option.service.OptionGeneratorServiceInterface;
 import pluto.upik.shared.exception.BusinessException;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 선택지 생성 GraphQL 쿼리 리졸버
@@ -41,50 +43,61 @@ public class OptionGeneratorQueryResolver {
      * @param parent 부모 객체
      * @param title 제목
      * @param count 생성할 선택지 개수
-     * @return 생성된 선택지 응답
+     * @return 생성된 선택지 응답 (생성이 끝나면 완료되며, 그동안 요청 스레드를 점유하지 않습니다)
      */
     @SchemaMapping(typeName = "OptionGeneratorQuery", field = "generateOptions")
-    public GenerateOptionsResponse generateOptions(Object parent, @Argument String title, @Argument int count) {
+    public CompletableFuture<GenerateOptionsResponse> generateOptions(Object parent, @Argument String title, @Argument int count) {
         log.info("GraphQL 쿼리 - 선택지 생성 요청: 제목={}, 개수={}", title, count);
         
+        // 입력값 검증
+        if (title == null || title.trim().isEmpty()) {
+            log.warn("GraphQL 쿼리 - 선택지 생성 실패: 제목이 비어있음");
+            return CompletableFuture.completedFuture(GenerateOptionsResponse.builder()
+                .success(false)
+                .message("제목을 입력해주세요.")
+                .build());
+        }
+        
+        if (count < 1 || count > 10) {
+            log.warn("GraphQL 쿼리 - 선택지 생성 실패: 유효하지 않은 개수 ({})", count);
+            return CompletableFuture.completedFuture(GenerateOptionsResponse.builder()
+                .success(false)
+                .message("선택지 개수는 1개에서 10개 사이로 입력해주세요.")
+                .build());
+        }
+        
+        // 서비스 호출
+        CompletableFuture<GenerateOptionsResponse> future;
         try {
-            // 입력값 검증
-            if (title == null || title.trim().isEmpty()) {
-                log.warn("GraphQL 쿼리 - 선택지 생성 실패: 제목이 비어있음");
-                return GenerateOptionsResponse.builder()
-                    .success(false)
-                    .message("제목을 입력해주세요.")
-                    .build();
+            future = optionGeneratorService.generateOptions(title, count);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((response, error) -> {
+            if (error == null) {
+                log.info("GraphQL 쿼리 - 선택지 생성 완료: 제목={}, 개수={}, 성공={}", 
+                        title, count, response.isSuccess());
+                return response;
             }
-            
-            if (count < 1 || count > 10) {
-                log.warn("GraphQL 쿼리 - 선택지 생성 실패: 유효하지 않은 개수 ({})", count);
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof BusinessException) {
+                log.warn("GraphQL 쿼리 - 선택지 생성 중 비즈니스 오류: 제목={}, 개수={}, 사유={}", 
+                        title, count, cause.getMessage());
                 return GenerateOptionsResponse.builder()
                     .success(false)
-                    .message("선택지 개수는 1개에서 10개 사이로 입력해주세요.")
+                    .message(cause.getMessage())
                     .build();
             }
-            
-            // 서비스 호출
-            GenerateOptionsResponse response = optionGeneratorService.generateOptions(title, count);
-            log.info("GraphQL 쿼리 - 선택지 생성 완료: 제목={}, 개수={}, 성공={}", 
-                    title, count, response.isSuccess());
-            return response;
-        } catch (BusinessException e) {
-            log.warn("GraphQL 쿼리 - 선택지 생성 중 비즈니스 오류: 제목={}, 개수={}, 사유={}", 
-                    title, count, e.getMessage());
-            return GenerateOptionsResponse.builder()
-                .success(false)
-                .message(e.getMessage())
-                .build();
-        } catch (Exception e) {
             log.error("GraphQL 쿼리 - 선택지 생성 중 예상치 못한 오류: 제목={}, 개수={}, 오류={}", 
-                    title, count, e.getMessage(), e);
+                    title, count, cause.getMessage(), cause);
             return GenerateOptionsResponse.builder()
                 .success(false)
                 .message("선택지 생성 중 오류가 발생했습니다.")
                 .build();
-        }
+        });
     }
 
     /**
@@ -1,28 +1,39 @@
 package pluto.upik.domain.option.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import pluto.upik.domain.guide.data.DTO.KeywordGuideResponse;
 import pluto.upik.domain.guide.service.KeywordGuideServiceInterface;
 import pluto.upik.domain.option.data.DTO.GenerateOptionsResponse;
+import pluto.upik.domain.option.data.DTO.GeneratedOptionsDTO;
 import pluto.upik.domain.option.data.DTO.GuideSimpleInfo;
 import pluto.upik.domain.option.data.DTO.SimilarGuidesResponse;
 import pluto.upik.shared.ai.config.ChatAiService;
+import pluto.upik.shared.ai.service.AiCallScheduler;
+import pluto.upik.shared.ai.service.AiTaskExecutor;
+import pluto.upik.shared.ai.service.StructuredJsonReader;
+import pluto.upik.shared.ai.service.StructuredOutput;
+import pluto.upik.shared.cache.SingleFlightCache;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.exception.StructuredOutputException;
 import pluto.upik.shared.translation.service.TranslationService;
 
-
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
@@ -38,119 +49,274 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
     private final ChatAiService chatAiService;
     private final TranslationService translationService;
     private final KeywordGuideServiceInterface keywordGuideService;
+    private final AiTaskExecutor aiTaskExecutor;
+    private final OptionPromptBatcher promptBatcher;
+    private final SemanticOptionCache semanticOptionCache;
+    private final ObjectMapper objectMapper;
 
     private static final int AI_RESPONSE_TIMEOUT_SECONDS = 30;
     private static final int MAX_SUMMARY_LENGTH = 100;
 
+    @Value("${upik.ai.structured-output.enabled:false}")
+    private boolean structuredOutputEnabled;
+
+    @Value("${upik.option.single-flight.ttl-ms:60000}")
+    private long singleFlightTtlMs;
+
+    @Value("${upik.option.single-flight.max-entries:1000}")
+    private long singleFlightMaxEntries;
+
+    // 같은 (제목, 개수) / 제목의 동시 요청은 진행 중인 결과를 함께 기다리고, 성공한 결과는 짧게 캐시합니다.
+    private SingleFlightCache<String, GenerateOptionsResponse> generateOptionsFlights;
+    private SingleFlightCache<String, SimilarGuidesResponse> similarGuidesFlights;
+
+    @PostConstruct
+    public void init() {
+        Duration ttl = Duration.ofMillis(singleFlightTtlMs);
+        generateOptionsFlights = new SingleFlightCache<>(ttl, singleFlightMaxEntries, GenerateOptionsResponse::isSuccess);
+        similarGuidesFlights = new SingleFlightCache<>(ttl, singleFlightMaxEntries, SimilarGuidesResponse::isSuccess);
+    }
+
+    /**
+     * 단일 실행 키로 쓰기 위해 제목을 정규화합니다. (앞뒤 공백 제거, 연속 공백 축약, 소문자화)
+     */
+    static String normalizeTitle(String title) {
+        return title == null ? "" : title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
     /**
-     * 제목에 맞는 선택지를 생성합니다.
+     * 제목에 맞는 선택지를 비동기로 생성합니다.
+     * 생성은 AI 전용 실행기에서 진행되고, 제한 시간이 지나면 실행 중인 생성 작업을 취소하고 오류 응답으로 완료합니다.
      *
      * @param title 제목
      * @param count 생성할 선택지 개수
-     * @return 생성된 선택지 응답
+     * @return 생성된 선택지 응답의 CompletableFuture
      */
     @Override
-    public GenerateOptionsResponse generateOptions(String title, int count) {
+    public CompletableFuture<GenerateOptionsResponse> generateOptions(String title, int count) {
+        return generateOptionsFlights.getAsync(normalizeTitle(title) + "\u0000" + count,
+                () -> submitGenerateOptions(title, count));
+    }
+
+    private CompletableFuture<GenerateOptionsResponse> submitGenerateOptions(String title, int count) {
         Map<String, Object> logParams = new HashMap<>();
         logParams.put("제목", title);
         logParams.put("요청 개수", count);
         log.info("선택지 생성 시작 - {}", LoggingUtils.formatParams(logParams));
-        
-        try {
-            CompletableFuture<GenerateOptionsResponse> future = generateOptionsAsync(title, count);
-            log.debug("비동기 선택지 생성 작업 시작됨 - 제목: {}, 타임아웃: {}초", title, AI_RESPONSE_TIMEOUT_SECONDS);
-            
-            GenerateOptionsResponse response = future.get(AI_RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-            
-            logParams.put("생성된 선택지 개수", response.getOptions().size());
-            logParams.put("성공 여부", response.isSuccess());
-            log.info("선택지 생성 완료 - {}", LoggingUtils.formatParams(logParams));
-            
-            if (response.isSuccess() && response.getOptions().size() > 0) {
-                log.debug("생성된 선택지 목록: {}", response.getOptions());
-            }
-            
-            return response;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("선택지 생성 중 인터럽트 발생 - 제목: {}, 개수: {}", title, count, e);
-            return buildErrorResponse("선택지 생성이 중단되었습니다.");
-        } catch (ExecutionException e) {
-            log.error("선택지 생성 중 실행 오류 발생 - 제목: {}, 개수: {}, 원인: {}", 
-                    title, count, e.getCause() != null ? e.getCause().getMessage() : "알 수 없음", e);
-            return buildErrorResponse("선택지 생성 중 오류가 발생했습니다: " + 
-                    (e.getCause() != null ? e.getCause().getMessage() : "알 수 없는 오류"));
-        } catch (TimeoutException e) {
-            log.error("선택지 생성 시간 초과 - 제목: {}, 개수: {}, 타임아웃: {}초", title, count, AI_RESPONSE_TIMEOUT_SECONDS, e);
-            return buildErrorResponse("선택지 생성 시간이 초과되었습니다. 나중에 다시 시도해주세요.");
-        }
+        log.debug("비동기 선택지 생성 작업 시작됨 - 제목: {}, 타임아웃: {}초", title, AI_RESPONSE_TIMEOUT_SECONDS);
+
+        return aiTaskExecutor.submit(() -> generateOptionsOnce(title, count), Duration.ofSeconds(AI_RESPONSE_TIMEOUT_SECONDS))
+                .handle((response, error) -> {
+                    if (error == null) {
+                        logParams.put("생성된 선택지 개수", response.getOptions().size());
+                        logParams.put("성공 여부", response.isSuccess());
+                        log.info("선택지 생성 완료 - {}", LoggingUtils.formatParams(logParams));
+                        return response;
+                    }
+
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        log.error("선택지 생성 시간 초과 - 제목: {}, 개수: {}, 타임아웃: {}초", title, count, AI_RESPONSE_TIMEOUT_SECONDS);
+                        return buildErrorResponse("선택지 생성 시간이 초과되었습니다. 나중에 다시 시도해주세요.");
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        log.warn("선택지 생성 요청 거절 (AI 실행기 포화) - 제목: {}, 개수: {}", title, count);
+                        return buildErrorResponse("선택지 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                    }
+                    if (cause instanceof BusinessException) {
+                        return buildErrorResponse(cause.getMessage());
+                    }
+                    log.error("선택지 생성 중 실행 오류 발생 - 제목: {}, 개수: {}, 원인: {}", title, count, cause.getMessage(), cause);
+                    return buildErrorResponse("선택지 생성 중 오류가 발생했습니다: " + cause.getMessage());
+                });
     }
-    
+
     /**
-     * 제목에 맞는 선택지를 비동기적으로 생성합니다.
+     * 제목에 맞는 선택지를 생성합니다. (AI 전용 실행기 스레드에서 실행됩니다)
      *
      * @param title 제목
      * @param count 생성할 선택지 개수
-     * @return 생성된 선택지 응답의 CompletableFuture
+     * @return 생성된 선택지 응답
      */
-    @Async("taskExecutor")
-    public CompletableFuture<GenerateOptionsResponse> generateOptionsAsync(String title, int count) {
+    private GenerateOptionsResponse generateOptionsOnce(String title, int count) {
         long startTime = System.currentTimeMillis();
         log.debug("비동기 선택지 생성 시작 - 제목: {}, 개수: {}, 시작 시간: {}", title, count, startTime);
         
         try {
+            // 표현만 다른 비슷한 제목으로 이미 생성한 선택지가 있으면 재사용
+            SemanticOptionCache.Lookup similar = semanticOptionCache.lookup(title, count);
+            if (similar.getOptions().isPresent()) {
+                return GenerateOptionsResponse.builder()
+                        .success(true)
+                        .message("선택지가 성공적으로 생성되었습니다.")
+                        .options(similar.getOptions().get())
+                        .build();
+            }
+
             // 한국어 제목을 영어로 번역
             log.debug("제목 번역 시작 (한국어 → 영어) - 원본 제목: {}", title);
             String translatedTitle = translationService.translateKoreanToEnglish(title);
             log.debug("제목 번역 완료 (한국어 → 영어) - 원본: '{}', 번역: '{}'", title, translatedTitle);
             
-            // AI에게 선택지 생성 요청 - 개선된 프롬프트
-            String prompt = buildPrompt(translatedTitle, count);
-            log.debug("AI 프롬프트 생성 완료 - 길이: {} 글자", prompt.length());
-
-            log.debug("AI 요청 시작 - 번역된 제목: {}, 요청 선택지 개수: {}", translatedTitle, count);
-            long aiRequestStartTime = System.currentTimeMillis();
-            String aiResponse = chatAiService.askToDeepSeekAI(prompt);
-            long aiRequestDuration = System.currentTimeMillis() - aiRequestStartTime;
-            log.debug("AI 응답 수신 완료 - 소요시간: {}ms, 응답 길이: {} 글자", aiRequestDuration, aiResponse.length());
-            log.trace("AI 응답 원문: {}", aiResponse);
-
-            // AI 응답에서 선택지 추출
-            log.debug("AI 응답에서 선택지 추출 시작");
-            List<String> englishOptions = extractOptionsFromAiResponse(aiResponse, count);
-            log.debug("선택지 추출 완료 - 추출된 영어 선택지 개수: {}", englishOptions.size());
-            log.debug("추출된 영어 선택지 목록: {}", englishOptions);
+            EnglishOptions generated = generateEnglishOptions(translatedTitle, count);
+            List<String> englishOptions = generated.options;
             // 영어 선택지를 한국어로 번역
             log.debug("선택지 번역 시작 (영어 → 한국어) - 선택지 개수: {}", englishOptions.size());
-            List<String> koreanOptions = new ArrayList<>();
-            for (int i = 0; i < englishOptions.size(); i++) {
-                String englishOption = englishOptions.get(i);
-                log.trace("선택지 #{} 번역 시작 - 영어: '{}'", i+1, englishOption);
-                String koreanOption = translationService.translateEnglishToKorean(englishOption);
-                log.trace("선택지 #{} 번역 완료 - 영어: '{}', 한국어: '{}'", i+1, englishOption, koreanOption);
-                koreanOptions.add(koreanOption);
-            }
+            // 선택지를 하나씩 번역하지 않고 한 번의 묶음 요청으로 번역
+            List<String> koreanOptions = translationService.translateBatch(englishOptions, "en|ko");
             log.debug("선택지 번역 완료 - 번역된 한국어 선택지 개수: {}", koreanOptions.size());
             log.debug("번역된 한국어 선택지 목록: {}", koreanOptions);
 
             long totalDuration = System.currentTimeMillis() - startTime;
             log.info("선택지 생성 프로세스 완료 - 제목: {}, 총 소요시간: {}ms, 생성된 선택지 개수: {}/{}",
                     title, totalDuration, koreanOptions.size(), count);
+            // 기본 선택지로 채웠거나 번역되지 않고 원문으로 남은 선택지가 있으면 의미 캐시에 남기지 않습니다.
+            if (generated.fromModel && isTranslated(englishOptions, koreanOptions)) {
+                similar.store(title, koreanOptions, totalDuration);
+            } else {
+                log.debug("모델이 생성하고 번역까지 끝난 선택지가 아니어서 의미 캐시에 저장하지 않습니다 - 제목: {}", title);
+            }
 
-            return CompletableFuture.completedFuture(
-                GenerateOptionsResponse.builder()
-                .success(true)
+            return GenerateOptionsResponse.builder()
+                    .success(true)
                     .message("선택지가 성공적으로 생성되었습니다.")
                     .options(koreanOptions)
-                    .build()
-            );
+                    .build();
+        } catch (RejectedExecutionException e) {
+            // AI 호출 허가를 받지 못한 요청은 "요청이 많습니다" 응답으로 처리되도록 감싸지 않고 전달합니다.
+            throw e;
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             long errorTime = System.currentTimeMillis() - startTime;
             log.error("선택지 비동기 생성 중 오류 발생 - 제목: {}, 개수: {}, 소요시간: {}ms, 오류 유형: {}",
                     title, count, errorTime, e.getClass().getName(), e);
             throw new BusinessException("선택지 생성 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * 번역된 제목으로 영어 선택지를 생성합니다.
+     * 묶음 처리가 켜져 있으면 다른 요청과 묶어 생성하고, 묶음 결과를 받지 못하면 단일 프롬프트로 생성합니다.
+     * 구조화 출력은 응답이 스키마에 맞지 않을 때(StructuredOutputException)만 번호 목록 프롬프트로 다시 생성합니다.
+     * 호출 허가 거절(RejectedExecutionException)은 다시 호출해도 거절되고, 응답 시간 초과는 요청 시간 제한을 이미 다 쓴 것이므로
+     * 둘 다 번호 목록으로 넘어가지 않고 호출한 쪽으로 전달됩니다.
+     *
+     * @param translatedTitle 영어로 번역된 제목
+     * @param count 생성할 선택지 개수
+     * @return 영어 선택지 목록
+     */
+    private EnglishOptions generateEnglishOptions(String translatedTitle, int count) throws InterruptedException {
+        if (promptBatcher.isEnabled()) {
+            Optional<List<String>> batched = promptBatcher.generate(translatedTitle, count);
+            if (batched.isPresent()) {
+                log.debug("묶음 프롬프트로 선택지 생성 완료 - 번역된 제목: {}, 선택지: {}", translatedTitle, batched.get());
+                return new EnglishOptions(batched.get(), true);
+            }
+        }
+
+        if (structuredOutputEnabled) {
+            try {
+                return new EnglishOptions(generateStructuredOptions(translatedTitle, count), true);
+            } catch (StructuredOutputException e) {
+                log.warn("구조화 출력으로 선택지를 생성하지 못해 번호 목록 프롬프트로 처리합니다 - 번역된 제목: {}, 원인: {}",
+                        translatedTitle, e.getMessage());
+            }
+        }
+
+        // AI에게 선택지 생성 요청 - 개선된 프롬프트
+        String prompt = buildPrompt(translatedTitle, count);
+        log.debug("AI 프롬프트 생성 완료 - 길이: {} 글자", prompt.length());
+
+        log.debug("AI 요청 시작 - 번역된 제목: {}, 요청 선택지 개수: {}", translatedTitle, count);
+        long aiRequestStartTime = System.currentTimeMillis();
+        // 번호 목록에서 선택지를 모두 읽을 수 있는 응답만 캐시해, 형식이 깨진 응답이 다음 요청에 재사용되지 않게 합니다.
+        String aiResponse = chatAiService.askToDeepSeekAI(prompt, AiCallScheduler.Lane.INTERACTIVE,
+                response -> extractNumberedOptions(response.split("\n")).size() >= count);
+        long aiRequestDuration = System.currentTimeMillis() - aiRequestStartTime;
+        log.debug("AI 응답 수신 완료 - 소요시간: {}ms, 응답 길이: {} 글자", aiRequestDuration, aiResponse.length());
+        log.trace("AI 응답 원문: {}", aiResponse);
+
+        // AI 응답에서 선택지 추출
+        log.debug("AI 응답에서 선택지 추출 시작");
+        EnglishOptions englishOptions = extractOptionsFromAiResponse(aiResponse, count);
+        log.debug("선택지 추출 완료 - 추출된 영어 선택지 개수: {}", englishOptions.options.size());
+        log.debug("추출된 영어 선택지 목록: {}", englishOptions.options);
+        return englishOptions;
+    }
+
+    /**
+     * JSON 스키마로 응답 형식을 고정해 영어 선택지를 생성합니다.
+     * 응답은 받는 대로 스키마와 비교하므로 잘못된 응답은 생성이 끝나기 전에 StructuredOutputException으로 중단됩니다.
+     *
+     * @param translatedTitle 영어로 번역된 제목
+     * @param count 생성할 선택지 개수
+     * @return 영어 선택지 목록
+     */
+    private List<String> generateStructuredOptions(String translatedTitle, int count) {
+        StructuredOutput<GeneratedOptionsDTO> output = optionsOutput(count);
+        StructuredJsonReader<GeneratedOptionsDTO> reader = new StructuredJsonReader<>(objectMapper, output);
+
+        long aiRequestStartTime = System.currentTimeMillis();
+        String prompt = buildStructuredPrompt(translatedTitle, count);
+        StringBuilder response = new StringBuilder();
+        chatAiService.askForJsonWithStream(prompt, output, AiCallScheduler.Lane.INTERACTIVE)
+                .doOnNext(chunk -> {
+                    response.append(chunk);
+                    reader.feed(chunk);
+                })
+                .blockLast(Duration.ofSeconds(AI_RESPONSE_TIMEOUT_SECONDS));
+        List<String> options = reader.finish().getOptions().stream()
+                .map(String::trim)
+                .filter(option -> !option.isEmpty())
+                .distinct()
+                .limit(count)
+                .collect(Collectors.toList());
+        log.debug("구조화 출력 선택지 생성 완료 - 소요시간: {}ms, 선택지: {}", System.currentTimeMillis() - aiRequestStartTime, options);
+
+        if (options.size() < count) {
+            throw new StructuredOutputException("AI가 서로 다른 선택지를 충분히 생성하지 못했습니다: " + options.size() + "/" + count);
+        }
+        // 스키마 검증과 개수 확인을 모두 통과한 응답만 캐시합니다.
+        chatAiService.cacheJsonResponse(prompt, output, response.toString());
+        return options;
+    }
+
+    /**
+     * 선택지 개수만큼의 문자열 배열을 요구하는 구조화 출력 정의
+     */
+    private static StructuredOutput<GeneratedOptionsDTO> optionsOutput(int count) {
+        Map<String, Object> schema = Map.of(
+                "type", "object",
+                "properties", Map.of("options", Map.of(
+                        "type", "array",
+                        "items", Map.of("type", "string"),
+                        "minItems", count,
+                        "maxItems", count
+                )),
+                "required", List.of("options")
+        );
+        return new StructuredOutput<>("options-" + count, schema, GeneratedOptionsDTO.class);
+    }
+
+    private String buildStructuredPrompt(String title, int count) {
+        return String.format(
+                "You are a poll option generator.\n" +
+                        "Generate exactly %d short and distinct options for the poll titled: \"%s\"\n\n" +
+
+                        "Rules:\n" +
+                        "- Each option: 1~10 characters long (including spaces)\n" +
+                        "- No explanations, no sentences, no extra text\n" +
+                        "- Only specific, popular, diverse answers\n" +
+                        "- Use nouns only (e.g., 'Pizza', 'Seoul')\n\n" +
+
+                        "Respond ONLY with a JSON object of the form {\"options\": [\"Option\", ...]}.",
+                count, title
+        );
+    }
+
     /**
      * AI에게 보낼 프롬프트를 구성합니다.
      *
@@ -181,24 +347,14 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
     }
 
     /**
-     * AI 응답에서 선택지를 추출합니다.
+     * 번호 패턴(1., 2. 등)으로 시작하는 줄에서 선택지를 추출합니다.
+     * 빈 선택지와 질문 형태의 선택지는 제외합니다.
      *
-     * @param aiResponse AI 응답 텍스트
-     * @param expectedCount 예상되는 선택지 개수
+     * @param lines AI 응답의 줄 목록
      * @return 추출된 선택지 목록
      */
-    private List<String> extractOptionsFromAiResponse(String aiResponse, int expectedCount) {
-        if (aiResponse == null || aiResponse.trim().isEmpty()) {
-            log.warn("AI 응답이 비어있거나 null입니다.");
-            throw new BusinessException("AI가 선택지를 생성하지 못했습니다.");
-}
-
-        // 번호 패턴(1., 2. 등)으로 시작하는 줄을 찾아 선택지로 추출
+    private static List<String> extractNumberedOptions(String[] lines) {
         List<String> options = new ArrayList<>();
-        String[] lines = aiResponse.split("\n");
-
-        log.debug("AI 응답 파싱 시작 - 총 라인 수: {}", lines.length);
-
         for (int i = 0; i < lines.length; i++) {
             String line = lines[i];
             String trimmedLine = line.trim();
@@ -222,6 +378,26 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
                 log.trace("번호 패턴 매칭되지 않음, 무시됨");
             }
         }
+        return options;
+    }
+
+    /**
+     * AI 응답에서 선택지를 추출합니다.
+     *
+     * @param aiResponse AI 응답 텍스트
+     * @param expectedCount 예상되는 선택지 개수
+     * @return 추출된 선택지 목록 (기본 선택지로 채웠으면 모델이 생성한 결과가 아닌 것으로 표시됩니다)
+     */
+    private EnglishOptions extractOptionsFromAiResponse(String aiResponse, int expectedCount) {
+        if (aiResponse == null || aiResponse.trim().isEmpty()) {
+            log.warn("AI 응답이 비어있거나 null입니다.");
+            throw new BusinessException("AI가 선택지를 생성하지 못했습니다.");
+}
+
+        // 번호 패턴(1., 2. 등)으로 시작하는 줄을 찾아 선택지로 추출
+        String[] lines = aiResponse.split("\n");
+        log.debug("AI 응답 파싱 시작 - 총 라인 수: {}", lines.length);
+        List<String> options = extractNumberedOptions(lines);
 
         log.debug("번호 패턴 추출 결과 - 찾은 선택지 개수: {}/{}", options.size(), expectedCount);
 
@@ -246,7 +422,8 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
         }
 
         // 선택지가 여전히 부족하면 기본 선택지 추가
-        if (options.size() < expectedCount) {
+        boolean padded = options.size() < expectedCount;
+        if (padded) {
             int deficit = expectedCount - options.size();
             log.warn("충분한 선택지를 추출하지 못했습니다. 기본 선택지 {}개를 추가합니다.", deficit);
 
@@ -270,7 +447,23 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
             .collect(Collectors.toList());
 
         log.debug("최종 선택지 목록 ({}개): {}", finalOptions.size(), finalOptions);
-        return finalOptions;
+        return new EnglishOptions(finalOptions, !padded);
+    }
+
+    /**
+     * 모든 선택지가 실제로 번역되었는지 확인합니다.
+     * 번역 서킷이 차단되었거나 번역에 실패하면 영어 원문이 그대로 돌아오므로, 원문과 같은 선택지가 있으면 번역되지 않은 것으로 봅니다.
+     */
+    static boolean isTranslated(List<String> englishOptions, List<String> koreanOptions) {
+        if (englishOptions.size() != koreanOptions.size()) {
+            return false;
+        }
+        for (int i = 0; i < englishOptions.size(); i++) {
+            if (englishOptions.get(i).equals(koreanOptions.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -296,6 +489,10 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
      */
     @Override
     public SimilarGuidesResponse findSimilarGuides(String title) {
+        return similarGuidesFlights.get(normalizeTitle(title), () -> findSimilarGuidesOnce(title));
+    }
+
+    private SimilarGuidesResponse findSimilarGuidesOnce(String title) {
         Map<String, Object> logParams = new HashMap<>();
         logParams.put("제목", title);
         log.info("유사 가이드 검색 시작 - {}", LoggingUtils.formatParams(logParams));
@@ -400,6 +597,20 @@ public class OptionGeneratorServiceImpl implements OptionGeneratorServiceInterfa
         return content;
     }
 
+    /**
+     * 생성된 영어 선택지
+     */
+    private static final class EnglishOptions {
+        private final List<String> options;
+        // 기본 선택지 없이 모델이 생성한 선택지만으로 이루어졌는지 여부
+        private final boolean fromModel;
+
+        private EnglishOptions(List<String> options, boolean fromModel) {
+            this.options = options;
+            this.fromModel = fromModel;
+        }
+    }
+
     /**
      * 파라미터 맵을 문자열로 포맷팅합니다.
      * LoggingUtils 클래스가 없을 경우를 대비한 내부 메서드
@@ -3,6 +3,8 @@ package pluto.upik.domain.option.service;
 import pluto.upik.domain.option.data.DTO.GenerateOptionsResponse;
 import pluto.upik.domain.option.data.DTO.SimilarGuidesResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 선택지 생성 서비스 인터페이스
  * AI를 활용한 선택지 생성 기능을 제공합니다.
@@ -10,13 +12,13 @@ import pluto.upik.domain.option.data.DTO.SimilarGuidesResponse;
 public interface OptionGeneratorServiceInterface {
     
     /**
-     * 제목에 맞는 선택지를 생성합니다.
+     * 제목에 맞는 선택지를 비동기로 생성합니다.
      *
      * @param title 제목
      * @param count 생성할 선택지 개수
-     * @return 생성된 선택지 응답
+     * @return 생성된 선택지 응답의 CompletableFuture
      */
-    GenerateOptionsResponse generateOptions(String title, int count);
+    CompletableFuture<GenerateOptionsResponse> generateOptions(String title, int count);
 
     /**
      * 제목과 유사한 가이드를 검색합니다.
@@ -0,0 +1,232 @@
+package pluto.upik.domain.option.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pluto.upik.shared.ai.config.ChatAiService;
+import pluto.upik.shared.ai.service.AiCallScheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 선택지 생성 프롬프트 묶음 처리기
+ * 짧은 시간 창 안에 들어온 선택지 생성 요청들을 하나의 프롬프트로 합쳐 Ollama를 한 번만 호출하고,
+ * 제목별 구역으로 나뉜 응답을 각 요청자에게 나눠 줍니다.
+ * 묶음의 첫 요청자가 시간 창만큼(또는 묶음이 가득 찰 때까지) 기다린 뒤 자기 스레드에서 호출을 실행하므로 별도 스레드가 필요 없습니다.
+ * 묶음에 요청이 하나뿐이거나 응답에서 해당 제목의 선택지를 충분히 읽지 못하면 빈 결과를 돌려주고,
+ * 요청자는 기존의 단일 프롬프트 경로로 다시 생성합니다.
+ * upik.option.batching.enabled=true일 때만 사용됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OptionPromptBatcher {
+
+    private static final Pattern SECTION_HEADER = Pattern.compile("^#{2,}\\s*(\\d+)\\b.*");
+    private static final Pattern NUMBERED_LINE = Pattern.compile("^\\d+\\.\\s*(.*)$");
+
+    private final ChatAiService chatAiService;
+
+    @Value("${upik.option.batching.enabled:false}")
+    private boolean enabled;
+
+    @Value("${upik.option.batching.window-ms:20}")
+    private long windowMs;
+
+    @Value("${upik.option.batching.max-size:8}")
+    private int maxSize;
+
+    private final Object lock = new Object();
+    private Batch current;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 다른 요청과 묶어 선택지를 생성합니다.
+     *
+     * @param translatedTitle 영어로 번역된 제목
+     * @param count 생성할 선택지 개수
+     * @return 영어 선택지 목록 (묶음 처리를 하지 못했으면 빈 값)
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    public Optional<List<String>> generate(String translatedTitle, int count) throws InterruptedException {
+        Entry entry = new Entry(translatedTitle, count);
+        Batch batch;
+        boolean leader;
+        synchronized (lock) {
+            leader = current == null;
+            if (leader) {
+                current = new Batch();
+            }
+            batch = current;
+            batch.entries.add(entry);
+            if (batch.entries.size() >= maxSize) {
+                current = null;
+                batch.full.countDown();
+            }
+        }
+
+        if (leader) {
+            runBatch(batch);
+        }
+
+        try {
+            return entry.result.get();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void runBatch(Batch batch) throws InterruptedException {
+        try {
+            batch.full.await(windowMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // 묶음을 실행할 수 없으므로 다른 요청자들은 단일 프롬프트 경로로 넘깁니다.
+            close(batch).forEach(entry -> entry.result.complete(Optional.empty()));
+            throw e;
+        }
+
+        List<Entry> entries = close(batch);
+        try {
+            if (entries.size() == 1) {
+                return;
+            }
+            log.debug("선택지 생성 요청 묶음 처리 - 묶은 요청 수: {}", entries.size());
+            // 모든 제목의 선택지를 읽을 수 있는 응답만 캐시합니다. 일부가 빠진 응답은 같은 묶음이 다시 들어오면 새로 생성합니다.
+            String aiResponse = chatAiService.askToDeepSeekAI(buildBatchPrompt(entries), AiCallScheduler.Lane.INTERACTIVE,
+                    response -> isComplete(parseSections(response), entries));
+            Map<Integer, List<String>> sections = parseSections(aiResponse);
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                List<String> options = sections.getOrDefault(i + 1, List.of());
+                if (options.size() >= entry.count) {
+                    entry.result.complete(Optional.of(List.copyOf(options.subList(0, entry.count))));
+                } else {
+                    log.debug("묶음 응답에서 선택지를 충분히 읽지 못해 단일 프롬프트로 처리합니다 - 제목: {}, 읽은 개수: {}/{}",
+                            entry.title, options.size(), entry.count);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("선택지 생성 묶음 호출 실패, 요청별 단일 프롬프트로 처리합니다 - 요청 수: {}, 원인: {}", entries.size(), e.getMessage());
+        } finally {
+            // 결과를 받지 못한 요청은 단일 프롬프트 경로로 넘깁니다.
+            for (Entry entry : entries) {
+                entry.result.complete(Optional.empty());
+            }
+        }
+    }
+
+    private List<Entry> close(Batch batch) {
+        synchronized (lock) {
+            if (current == batch) {
+                current = null;
+            }
+            return List.copyOf(batch.entries);
+        }
+    }
+
+    /**
+     * 여러 제목의 선택지를 번호가 붙은 구역별로 요청하는 프롬프트를 만듭니다.
+     */
+    static String buildBatchPrompt(List<Entry> entries) {
+        StringBuilder polls = new StringBuilder();
+        StringBuilder format = new StringBuilder();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            polls.append(String.format("%d. \"%s\" (exactly %d options)\n", i + 1, entry.title, entry.count));
+            format.append("### ").append(i + 1).append("\n1. Option\n2. Option\n...\n");
+        }
+
+        return "You are a poll option generator.\n" +
+                "Generate short and distinct options for each of the following polls:\n" +
+                polls + "\n" +
+
+                "Rules:\n" +
+                "- Each option: 1~10 characters long (including spaces)\n" +
+                "- No explanations, no sentences, no extra text\n" +
+                "- Only specific, popular, diverse answers\n" +
+                "- Use nouns only (e.g., 'Pizza', 'Seoul')\n\n" +
+
+                "Format (one section per poll, in the same order):\n" +
+                format + "\n" +
+
+                "Respond ONLY with the sections.";
+    }
+
+    /**
+     * 모든 요청의 구역에 선택지가 요청한 개수 이상 있는지 확인합니다.
+     */
+    static boolean isComplete(Map<Integer, List<String>> sections, List<Entry> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (sections.getOrDefault(i + 1, List.of()).size() < entries.get(i).count) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 묶음 응답을 구역 번호별 선택지 목록으로 나눕니다.
+     * 구역 머리글(### n) 아래의 번호 목록만 읽고, 빈 선택지와 질문 형태의 선택지는 제외합니다.
+     */
+    static Map<Integer, List<String>> parseSections(String aiResponse) {
+        Map<Integer, List<String>> sections = new HashMap<>();
+        if (aiResponse == null) {
+            return sections;
+        }
+
+        List<String> section = null;
+        for (String line : aiResponse.split("\n")) {
+            String trimmedLine = line.trim();
+            Matcher header = SECTION_HEADER.matcher(trimmedLine);
+            if (header.matches()) {
+                section = sections.computeIfAbsent(Integer.parseInt(header.group(1)), key -> new ArrayList<>());
+                continue;
+            }
+
+            Matcher numbered = NUMBERED_LINE.matcher(trimmedLine);
+            if (section != null && numbered.matches()) {
+                String option = numbered.group(1).trim();
+                if (!option.isEmpty() && !option.endsWith("?")) {
+                    section.add(option);
+                }
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * 묶음에 들어간 요청
+     */
+    static final class Entry {
+        private final String title;
+        private final int count;
+        private final CompletableFuture<Optional<List<String>>> result = new CompletableFuture<>();
+
+        Entry(String title, int count) {
+            this.title = title;
+            this.count = count;
+        }
+    }
+
+    /**
+     * 하나의 프롬프트로 합쳐질 요청 묶음
+     */
+    private static final class Batch {
+        private final List<Entry> entries = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,253 @@
+package pluto.upik.domain.option.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 선택지 의미 캐시
+ * 제목을 Ollama 임베딩 모델로 벡터화해 메모리 인덱스에 보관하고, 표현만 다른 비슷한 제목("점심 뭐 먹지?" / "점심 메뉴 추천")이
+ * 들어오면 코사인 유사도가 기준값 이상인 가장 가까운 제목의 선택지를 재사용합니다.
+ * 벡터는 저장 시 정규화해 두므로 유사도는 내적으로 계산하며, 항목 수가 제한되어 있어 전체를 순회해 찾습니다.
+ * 임베딩 호출은 짧으므로 AI 호출 스케줄러를 거치지 않고, 실패하면 캐시 없이 생성하도록 빈 결과를 돌려줍니다.
+ * 적중률은 upik.option.semantic-cache.requests{result}, 아낀 LLM 시간은 upik.option.semantic-cache.saved-time으로 기록합니다.
+ * upik.option.semantic-cache.enabled=true일 때만 사용됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SemanticOptionCache {
+
+    private static final Lookup DISABLED = new Lookup(null, null, 0, Optional.empty());
+
+    private final ObjectProvider<EmbeddingModel> embeddingModelProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${upik.option.semantic-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${upik.option.semantic-cache.similarity-threshold:0.92}")
+    private double similarityThreshold;
+
+    @Value("${upik.option.semantic-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${upik.option.semantic-cache.ttl-ms:86400000}")
+    private long ttlMs;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private EmbeddingModel embeddingModel;
+    private Counter hits;
+    private Counter misses;
+    private Counter errors;
+    private Counter savedTime;
+
+    @PostConstruct
+    public void init() {
+        embeddingModel = embeddingModelProvider.getIfAvailable();
+        if (enabled && embeddingModel == null) {
+            log.warn("임베딩 모델을 찾을 수 없어 선택지 의미 캐시를 사용하지 않습니다.");
+            enabled = false;
+        }
+
+        hits = requestCounter("hit");
+        misses = requestCounter("miss");
+        errors = requestCounter("error");
+        savedTime = Counter.builder("upik.option.semantic-cache.saved-time")
+                .description("의미 캐시 적중으로 생략한 LLM 생성 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("upik.option.semantic-cache.entries", this, SemanticOptionCache::size)
+                .description("의미 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("upik.option.semantic-cache.hit-ratio", this, cache -> {
+                    double total = cache.hits.count() + cache.misses.count();
+                    return total == 0 ? 0 : cache.hits.count() / total;
+                })
+                .description("의미 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비슷한 제목으로 생성된 선택지를 찾습니다.
+     *
+     * @param title 제목 (한국어 원문)
+     * @param count 선택지 개수 (개수가 같은 항목만 재사용합니다)
+     * @return 조회 결과 (적중하지 않았으면 생성 후 store로 결과를 저장할 수 있습니다)
+     */
+    public Lookup lookup(String title, int count) {
+        if (!enabled) {
+            return DISABLED;
+        }
+
+        float[] vector;
+        try {
+            vector = normalize(embeddingModel.embed(OptionGeneratorServiceImpl.normalizeTitle(title)));
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("제목 임베딩 실패, 의미 캐시 없이 생성합니다 - 제목: {}, 원인: {}", title, e.getMessage());
+            return DISABLED;
+        }
+
+        Entry best = null;
+        double bestSimilarity = similarityThreshold;
+        long now = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            for (Entry entry : entries) {
+                if (entry.count != count || entry.expiresAt <= now || entry.vector.length != vector.length) {
+                    continue;
+                }
+                double similarity = dot(vector, entry.vector);
+                if (similarity >= bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (best == null) {
+            misses.increment();
+            return new Lookup(this, vector, count, Optional.empty());
+        }
+
+        hits.increment();
+        savedTime.increment(best.generationMillis);
+        log.debug("선택지 의미 캐시 적중 - 제목: '{}', 저장된 제목: '{}', 유사도: {}", title, best.title, bestSimilarity);
+        return new Lookup(this, vector, count, Optional.of(best.options));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void store(String title, float[] vector, int count, List<String> options, long generationMillis) {
+        long now = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            // 오래된 항목부터 들어 있으므로 앞에서부터 만료 항목을 정리하고, 가득 차면 가장 오래된 항목을 버립니다.
+            Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt <= now) {
+                iterator.remove();
+            }
+            while (entries.size() >= maxEntries) {
+                entries.pollFirst();
+            }
+            entries.addLast(new Entry(title, vector, count, List.copyOf(options), generationMillis, now + ttlMs));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        if (norm == 0) {
+            return vector;
+        }
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("upik.option.semantic-cache.requests")
+                .description("선택지 의미 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 의미 캐시 조회 결과
+     */
+    public static final class Lookup {
+        private final SemanticOptionCache cache;
+        private final float[] vector;
+        private final int count;
+        private final Optional<List<String>> options;
+
+        private Lookup(SemanticOptionCache cache, float[] vector, int count, Optional<List<String>> options) {
+            this.cache = cache;
+            this.vector = vector;
+            this.count = count;
+            this.options = options;
+        }
+
+        /**
+         * 재사용할 선택지 (적중하지 않았으면 빈 값)
+         */
+        public Optional<List<String>> getOptions() {
+            return options;
+        }
+
+        /**
+         * 새로 생성한 선택지를 조회에 사용한 벡터와 함께 저장합니다.
+         *
+         * @param title 제목
+         * @param generatedOptions 생성된 선택지
+         * @param generationMillis 생성에 걸린 시간 (적중 시 아낀 시간으로 기록됩니다)
+         */
+        public void store(String title, List<String> generatedOptions, long generationMillis) {
+            if (cache != null && options.isEmpty()) {
+                cache.store(title, vector, count, generatedOptions, generationMillis);
+            }
+        }
+    }
+
+    /**
+     * 인덱스 항목
+     */
+    private static final class Entry {
+        private final String title;
+        private final float[] vector;
+        private final int count;
+        private final List<String> options;
+        private final long generationMillis;
+        private final long expiresAt;
+
+        private Entry(String title, float[] vector, int count, List<String> options, long generationMillis, long expiresAt) {
+            this.title = title;
+            this.vector = vector;
+            this.count = count;
+            this.options = options;
+            this.generationMillis = generationMillis;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package pluto.upik.domain.report.application;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -67,6 +68,28 @@ public class ReportApplication implements ReportApplicationInterface {
         return reports;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection<ReportResponse> getReportsByTarget(UUID targetId, Integer first, String after) {
+        log.info("대상별 신고 페이지 조회 요청 - targetId: {}, first: {}", targetId, first);
+        Connection<ReportResponse> reports = reportService.getReportsByTarget(targetId, first, after);
+        log.info("대상별 신고 페이지 조회 완료 - targetId: {}, 결과 개수: {}", targetId, reports.getEdges().size());
+        return reports;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection<ReportResponse> getAllReports(Integer first, String after) {
+        log.info("신고 페이지 조회 요청 - first: {}", first);
+        Connection<ReportResponse> reports = reportService.getAllReports(first, after);
+        log.info("신고 페이지 조회 완료 - 결과 개수: {}", reports.getEdges().size());
+        return reports;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,5 +1,6 @@
 package pluto.upik.domain.report.application;
 
+import graphql.relay.Connection;
 import pluto.upik.domain.report.data.DTO.*;
 
 import java.util.List;
@@ -43,6 +44,25 @@ public interface ReportApplicationInterface {
      */
     List<ReportResponse> getAllReports();
 
+    /**
+     * 특정 대상에 대한 신고 목록을 커서 기반으로 조회
+     *
+     * @param targetId 조회할 대상 ID
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 신고 Connection
+     */
+    Connection<ReportResponse> getReportsByTarget(UUID targetId, Integer first, String after);
+
+    /**
+     * 모든 신고 목록을 커서 기반으로 조회
+     *
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 신고 Connection
+     */
+    Connection<ReportResponse> getAllReports(Integer first, String after);
+
     /**
      * 가이드 신고를 수락하고 새로운 질문을 생성
      *
@@ -1,5 +1,6 @@
 package pluto.upik.domain.report.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import pluto.upik.domain.report.data.model.Report;
 import pluto.upik.domain.report.data.model.ReportId;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -60,4 +62,57 @@ public interface ReportRepository extends JpaRepository<Report, ReportId> {
     @Modifying
     @Query("DELETE FROM Report r WHERE r.targetId = :targetId")
     void deleteByTargetId(@Param("targetId") UUID targetId);
-}
\ No newline at end of file
+
+    /**
+     * 신고 목록의 첫 페이지를 최신순으로 조회합니다.
+     *
+     * @param limit 조회할 최대 개수
+     * @return 신고 목록
+     */
+    @Query("SELECT r FROM Report r ORDER BY r.createdAt DESC, r.targetId DESC, r.userId DESC")
+    List<Report> findFirstPage(Limit limit);
+
+    /**
+     * 커서 이후의 신고 목록을 최신순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * @param createdAt 커서의 신고일
+     * @param targetId 커서의 신고 대상 ID
+     * @param userId 커서의 신고자 ID
+     * @param limit 조회할 최대 개수
+     * @return 신고 목록
+     */
+    @Query("SELECT r FROM Report r WHERE r.createdAt < :createdAt " +
+            "OR (r.createdAt = :createdAt AND (r.targetId < :targetId OR (r.targetId = :targetId AND r.userId < :userId))) " +
+            "ORDER BY r.createdAt DESC, r.targetId DESC, r.userId DESC")
+    List<Report> findPageAfter(@Param("createdAt") LocalDate createdAt,
+                               @Param("targetId") UUID targetId,
+                               @Param("userId") UUID userId,
+                               Limit limit);
+
+    /**
+     * 특정 대상 신고 목록의 첫 페이지를 최신순으로 조회합니다.
+     *
+     * @param targetId 신고 대상 ID
+     * @param limit 조회할 최대 개수
+     * @return 신고 목록
+     */
+    @Query("SELECT r FROM Report r WHERE r.targetId = :targetId ORDER BY r.createdAt DESC, r.userId DESC")
+    List<Report> findFirstPageByTargetId(@Param("targetId") UUID targetId, Limit limit);
+
+    /**
+     * 커서 이후의 특정 대상 신고 목록을 최신순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * @param targetId 신고 대상 ID
+     * @param createdAt 커서의 신고일
+     * @param userId 커서의 신고자 ID
+     * @param limit 조회할 최대 개수
+     * @return 신고 목록
+     */
+    @Query("SELECT r FROM Report r WHERE r.targetId = :targetId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.userId < :userId)) " +
+            "ORDER BY r.createdAt DESC, r.userId DESC")
+    List<Report> findPageByTargetIdAfter(@Param("targetId") UUID targetId,
+                                         @Param("createdAt") LocalDate createdAt,
+                                         @Param("userId") UUID userId,
+                                         Limit limit);
+}
@@ -0,0 +1,42 @@
+package pluto.upik.domain.report.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.domain.report.data.DTO.ReportResponse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 신고 하위 필드 배치 리졸버
+ * 신고 대상 유형을 신고마다 조회하지 않고 요청 단위로 한 번에 판별합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ReportFieldResolver {
+
+    private final GuideRepository guideRepository;
+
+    /**
+     * 신고 대상이 가이드면 "guide", 아니면 "vote"를 반환합니다.
+     *
+     * @param reports 신고 목록
+     * @return 신고 순서대로의 대상 유형
+     */
+    @BatchMapping(typeName = "Report", field = "targetType")
+    public List<String> targetType(List<ReportResponse> reports) {
+        Set<UUID> targetIds = reports.stream()
+                .map(ReportResponse::getTargetId)
+                .collect(Collectors.toSet());
+        Set<UUID> guideIds = new HashSet<>(guideRepository.findExistingIds(targetIds));
+
+        return reports.stream()
+                .map(report -> guideIds.contains(report.getTargetId()) ? "guide" : "vote")
+                .toList();
+    }
+}
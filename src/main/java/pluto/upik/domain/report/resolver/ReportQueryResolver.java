@@ -1,5 +1,6 @@
 package pluto.upik.domain.report.resolver;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -105,4 +106,34 @@ public class ReportQueryResolver {
             return new ArrayList<>();
         }
     }
+
+    /**
+     * 특정 대상에 대한 신고 목록을 커서 기반으로 조회합니다.
+     *
+     * @param parent GraphQL 부모 객체
+     * @param targetId 조회할 대상 ID
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 신고 Connection
+     */
+    @SchemaMapping(typeName = "ReportQuery", field = "reportsByTarget")
+    public Connection<ReportResponse> reportsByTarget(ReportQuery parent, @Argument UUID targetId,
+                                                      @Argument Integer first, @Argument String after) {
+        log.info("GraphQL 쿼리 - 신고 대상 페이지 조회 요청: targetId={}, first={}", targetId, first);
+        return reportApplication.getReportsByTarget(targetId, first, after);
+    }
+
+    /**
+     * 모든 신고 목록을 커서 기반으로 조회합니다.
+     *
+     * @param parent GraphQL 부모 객체
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 신고 Connection
+     */
+    @SchemaMapping(typeName = "ReportQuery", field = "reports")
+    public Connection<ReportResponse> reports(ReportQuery parent, @Argument Integer first, @Argument String after) {
+        log.info("GraphQL 쿼리 - 신고 페이지 조회 요청: first={}", first);
+        return reportApplication.getAllReports(first, after);
+    }
 }
\ No newline at end of file
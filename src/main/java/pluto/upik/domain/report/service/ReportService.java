@@ -1,8 +1,11 @@
 package pluto.upik.domain.report.service;
 
+import graphql.relay.Connection;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
@@ -11,10 +14,15 @@ import pluto.upik.domain.report.data.DTO.*;
 import pluto.upik.domain.report.data.model.Report;
 import pluto.upik.domain.report.repository.ReportRepository;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.pagination.CursorPagination;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -35,6 +43,9 @@ public class ReportService implements ReportServiceInterface {
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final VoteResponseRepository voteResponseRepository; // 추가: VoteResponse 레포지토리 주입
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+    private final VoteCounterService voteCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -119,15 +130,6 @@ public class ReportService implements ReportServiceInterface {
                     .map(this::mapToReportResponse)
                     .collect(Collectors.toList());
 
-            for (ReportResponse report : reports) {
-                if(!guideRepository.existsById(report.getTargetId())) {
-                    report.setTargetType("vote");
-                }
-                else{
-                    report.setTargetType("guide");
-                }
-            }
-
             log.info("신고 대상 목록 조회 완료 - targetId: {}, 결과 개수: {}", targetId, reports.size());
             return reports;
         } catch (Exception e) {
@@ -155,15 +157,6 @@ public class ReportService implements ReportServiceInterface {
                     .map(this::mapToReportResponse)
                     .collect(Collectors.toList());
 
-            for (ReportResponse report : reports) {
-                if(!guideRepository.existsById(report.getTargetId())) {
-                    report.setTargetType("vote");
-                }
-                else{
-                    report.setTargetType("guide");
-                }
-            }
-
             log.info("모든 신고 목록 조회 완료 - 결과 개수: {}", reports.size());
             return reports;
         } catch (Exception e) {
@@ -172,6 +165,60 @@ public class ReportService implements ReportServiceInterface {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection<ReportResponse> getReportsByTarget(UUID targetId, Integer first, String after) {
+        log.info("신고 대상 페이지 조회 요청 시작 - targetId: {}, first: {}, after: {}", targetId, first, after);
+
+        int pageSize = CursorPagination.pageSize(first);
+        Limit limit = CursorPagination.fetchLimit(pageSize);
+        List<Report> reportList;
+        if (after == null) {
+            reportList = reportRepository.findFirstPageByTargetId(targetId, limit);
+        } else {
+            List<String> keys = CursorPagination.decode(after, 2);
+            reportList = reportRepository.findPageByTargetIdAfter(
+                    targetId, LocalDate.parse(keys.get(0)), UUID.fromString(keys.get(1)), limit);
+        }
+
+        List<ReportResponse> reports = reportList.stream()
+                .map(this::mapToReportResponse)
+                .collect(Collectors.toList());
+
+        log.info("신고 대상 페이지 조회 완료 - targetId: {}, 결과 개수: {}", targetId, reports.size());
+        return CursorPagination.toConnection(reports, pageSize, after != null,
+                report -> CursorPagination.encode(report.getCreatedAt(), report.getUserId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection<ReportResponse> getAllReports(Integer first, String after) {
+        log.info("신고 페이지 조회 요청 시작 - first: {}, after: {}", first, after);
+
+        int pageSize = CursorPagination.pageSize(first);
+        Limit limit = CursorPagination.fetchLimit(pageSize);
+        List<Report> reportList;
+        if (after == null) {
+            reportList = reportRepository.findFirstPage(limit);
+        } else {
+            List<String> keys = CursorPagination.decode(after, 3);
+            reportList = reportRepository.findPageAfter(
+                    LocalDate.parse(keys.get(0)), UUID.fromString(keys.get(1)), UUID.fromString(keys.get(2)), limit);
+        }
+
+        List<ReportResponse> reports = reportList.stream()
+                .map(this::mapToReportResponse)
+                .collect(Collectors.toList());
+
+        log.info("신고 페이지 조회 완료 - 결과 개수: {}", reports.size());
+        return CursorPagination.toConnection(reports, pageSize, after != null,
+                report -> CursorPagination.encode(report.getCreatedAt(), report.getTargetId(), report.getUserId()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -209,6 +256,7 @@ public class ReportService implements ReportServiceInterface {
             LocalDate twoLaterDate = LocalDate.now().plusDays(2);
             vote.setFinishedAt(twoLaterDate);
             voteRepository.save(vote);
+            eventPublisher.publishEvent(VoteOpenedEvent.of(vote, optionRepository.findByVoteId(vote.getId())));
 
             // 5. 신고 삭제
             reportRepository.deleteByUserIdAndTargetId(userId, guideId);
@@ -356,6 +404,8 @@ public class ReportService implements ReportServiceInterface {
                 log.info("질문 관련 응답 삭제 시작 - questionId: {}", questionId);
                 // option_id를 참조하는 vote_response 먼저 삭제
                 voteResponseRepository.deleteByVoteId(questionId);
+                voteOptionTallyRepository.deleteByVoteId(questionId);
+                voteCounterService.evict(questionId);
                 log.info("질문 관련 응답 삭제 완료 - questionId: {}", questionId);
         } catch (Exception e) {
                 throw new BusinessException("질문 관련 옵션 삭제 중 오류가 발생했습니다: " + e.getMessage());
@@ -364,6 +414,7 @@ public class ReportService implements ReportServiceInterface {
             try {
                 // 4. 질문 삭제
                 voteRepository.delete(vote);
+                eventPublisher.publishEvent(new VoteClosedEvent(questionId));
                 log.info("질문 삭제 완료 - questionId: {}", questionId);
             } catch (Exception e) {
                 log.error("질문 삭제 중 오류 - questionId: {}, error: {}", questionId, e.getMessage(), e);
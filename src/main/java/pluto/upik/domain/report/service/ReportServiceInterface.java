@@ -1,5 +1,6 @@
 package pluto.upik.domain.report.service;
 
+import graphql.relay.Connection;
 import pluto.upik.domain.report.data.DTO.*;
 
 import java.util.List;
@@ -48,6 +49,27 @@ public interface ReportServiceInterface {
      * @throws pluto.upik.shared.exception.BusinessException 조회 중 오류 발생 시
      */
     List<ReportResponse> getAllReports();
+
+    /**
+     * 특정 대상에 대한 신고 목록을 최신순 커서 기반으로 조회합니다.
+     *
+     * @param targetId 조회할 대상 ID
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 신고 Connection
+     * @throws IllegalArgumentException 페이지 크기나 커서가 잘못된 경우 발생
+     */
+    Connection<ReportResponse> getReportsByTarget(UUID targetId, Integer first, String after);
+
+    /**
+     * 모든 신고 목록을 최신순 커서 기반으로 조회합니다.
+     *
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 신고 Connection
+     * @throws IllegalArgumentException 페이지 크기나 커서가 잘못된 경우 발생
+     */
+    Connection<ReportResponse> getAllReports(Integer first, String after);
     
     /**
      * 가이드 신고를 수락하고 새로운 질문을 생성합니다.
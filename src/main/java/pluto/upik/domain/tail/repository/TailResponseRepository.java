@@ -1,7 +1,9 @@
 package pluto.upik.domain.tail.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pluto.upik.domain.tail.data.model.Tail;
 import pluto.upik.domain.tail.data.model.TailResponse;
@@ -52,4 +54,27 @@ public interface TailResponseRepository extends JpaRepository<TailResponse, UUID
 
     // Tail 별 TailResponse 리스트 조회
     List<TailResponse> findByTail(Tail tail);
+
+    /**
+     * 특정 테일 응답 목록의 첫 페이지를 ID 순으로 조회합니다.
+     *
+     * @param tailId 테일 ID
+     * @param limit 조회할 최대 개수
+     * @return 테일 응답 목록
+     */
+    @Query("SELECT tr FROM TailResponse tr WHERE tr.tail.id = :tailId ORDER BY tr.id")
+    List<TailResponse> findFirstPageByTailId(@Param("tailId") UUID tailId, Limit limit);
+
+    /**
+     * 커서 이후의 특정 테일 응답 목록을 ID 순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * @param tailId 테일 ID
+     * @param afterId 커서의 테일 응답 ID
+     * @param limit 조회할 최대 개수
+     * @return 테일 응답 목록
+     */
+    @Query("SELECT tr FROM TailResponse tr WHERE tr.tail.id = :tailId AND tr.id > :afterId ORDER BY tr.id")
+    List<TailResponse> findPageByTailIdAfter(@Param("tailId") UUID tailId,
+                                             @Param("afterId") UUID afterId,
+                                             Limit limit);
 }
@@ -1,5 +1,6 @@
 package pluto.upik.domain.tail.resolver;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -49,4 +50,20 @@ public class TailQueryResolver {
         log.debug("GraphQL 테일에 대한 응답 목록 조회: tailId={}", tailId);
         return tailService.getTailResponsesByTailId(UUID.fromString(tailId));
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 테일에 대한 응답 목록을 커서 기반으로 조회
+     *
+     * @param tailQuery 테일 쿼리 객체
+     * @param tailId 테일 ID
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 테일 응답 Connection
+     */
+    @SchemaMapping(typeName = "TailQuery", field = "tailResponses")
+    public Connection<TailResponsePayload> tailResponses(TailQuery tailQuery, @Argument String tailId,
+                                                         @Argument Integer first, @Argument String after) {
+        log.debug("GraphQL 테일 응답 페이지 조회: tailId={}, first={}, after={}", tailId, first, after);
+        return tailService.getTailResponses(UUID.fromString(tailId), first, after);
+    }
+}
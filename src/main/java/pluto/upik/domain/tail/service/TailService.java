@@ -1,7 +1,9 @@
 package pluto.upik.domain.tail.service;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.tail.data.DTO.TailPayload;
@@ -15,6 +17,7 @@ import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.pagination.CursorPagination;
 
 import java.util.List;
 import java.util.UUID;
@@ -161,4 +164,33 @@ public class TailService {
                 .map(TailResponsePayload::fromEntity)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * 테일 응답 목록을 커서 기반으로 조회
+     *
+     * @param tailId 테일 ID
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 테일 응답 Connection
+     */
+    @Transactional(readOnly = true)
+    public Connection<TailResponsePayload> getTailResponses(UUID tailId, Integer first, String after) {
+        // 테일 존재 확인
+        if (!tailRepository.existsById(tailId)) {
+            throw new ResourceNotFoundException("테일을 찾을 수 없습니다: " + tailId);
+        }
+
+        int pageSize = CursorPagination.pageSize(first);
+        Limit limit = CursorPagination.fetchLimit(pageSize);
+        List<TailResponse> responses = after == null
+                ? tailResponseRepository.findFirstPageByTailId(tailId, limit)
+                : tailResponseRepository.findPageByTailIdAfter(
+                        tailId, UUID.fromString(CursorPagination.decode(after, 1).get(0)), limit);
+
+        return CursorPagination.toConnection(
+                responses.stream().map(TailResponsePayload::fromEntity).toList(),
+                pageSize,
+                after != null,
+                payload -> CursorPagination.encode(payload.getId()));
+    }
+}
@@ -1,6 +1,9 @@
 package pluto.upik.domain.vote.application;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
@@ -8,8 +11,11 @@ import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.user.data.model.User;
 import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
+import pluto.upik.domain.vote.data.DTO.CreateVoteResult;
+import pluto.upik.domain.vote.data.DTO.CreateVotesPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
 
 import java.time.LocalDate;
@@ -21,9 +27,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class VoteApplication {
 
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     /**
      * 새로운 투표를 생성합니다.
@@ -60,8 +73,95 @@ public class VoteApplication {
                     .build();
             savedOptions.add(optionRepository.save(option));
         }
-        
+
+        eventPublisher.publishEvent(VoteOpenedEvent.of(savedVote, savedOptions));
+
         // VotePayload 생성 및 반환
         return VotePayload.fromEntity(savedVote, savedOptions);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 투표를 한 트랜잭션에서 일괄 생성합니다.
+     * ID를 미리 지정해 persist하므로 merge의 사전 SELECT 없이 INSERT가 JDBC 배치로 묶이고,
+     * 배치 크기마다 flush/clear 해 영속성 컨텍스트가 커지지 않도록 합니다.
+     * 입력이 잘못된 항목은 건너뛰고 항목별 결과로 알려줍니다.
+     *
+     * @param inputs 투표 생성 입력 목록
+     * @return 항목별 생성 결과
+     */
+    @Transactional
+    public CreateVotesPayload createVotes(List<CreateVoteInput> inputs) {
+        if (inputs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 투표는 최대 " + MAX_BULK_SIZE + "개입니다.");
+        }
+
+        // 현재는 테스트를 위해 첫 번째 사용자를 가져옴 (실제로는 인증된 사용자를 사용해야 함)
+        User user = userRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("사용자가 없습니다."));
+        LocalDate finishedAt = LocalDate.now().plusDays(7);
+
+        List<CreateVoteResult> results = new ArrayList<>(inputs.size());
+        List<VoteOpenedEvent> openedEvents = new ArrayList<>();
+        int pending = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            CreateVoteInput input = inputs.get(i);
+            String invalidReason = validate(input);
+            if (invalidReason != null) {
+                results.add(CreateVoteResult.rejected(i, invalidReason));
+                continue;
+            }
+
+            Vote vote = Vote.builder()
+                    .id(UUID.randomUUID())
+                    .question(input.getTitle())
+                    .category(input.getCategory())
+                    .status(Vote.Status.OPEN)
+                    .user(user)
+                    .finishedAt(finishedAt)
+                    .build();
+            entityManager.persist(vote);
+            pending++;
+
+            List<Option> options = new ArrayList<>(input.getOptions().size());
+            for (String optionContent : input.getOptions()) {
+                Option option = Option.builder()
+                        .id(UUID.randomUUID())
+                        .vote(vote)
+                        .content(optionContent)
+                        .build();
+                entityManager.persist(option);
+                options.add(option);
+                pending++;
+            }
+
+            openedEvents.add(VoteOpenedEvent.of(vote, options));
+            results.add(CreateVoteResult.created(i, VotePayload.fromEntity(vote, options)));
+
+            if (pending >= batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                user = entityManager.getReference(User.class, user.getId());
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        openedEvents.forEach(eventPublisher::publishEvent);
+
+        return new CreateVotesPayload(openedEvents.size(), results);
+    }
+
+    private String validate(CreateVoteInput input) {
+        if (input.getTitle() == null || input.getTitle().isBlank()) {
+            return "투표 제목이 비어 있습니다.";
+        }
+        if (input.getOptions() == null || input.getOptions().size() < 2) {
+            return "투표 옵션은 2개 이상이어야 합니다.";
+        }
+        if (input.getOptions().stream().anyMatch(option -> option == null || option.isBlank())) {
+            return "비어 있는 투표 옵션이 있습니다.";
+        }
+        return null;
+    }
+}
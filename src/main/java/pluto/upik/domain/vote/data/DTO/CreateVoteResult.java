@@ -0,0 +1,24 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 투표 생성의 항목별 결과
+ */
+@Getter
+@AllArgsConstructor
+public class CreateVoteResult {
+    private final int index;
+    private final boolean success;
+    private final String message;
+    private final VotePayload vote;
+
+    public static CreateVoteResult created(int index, VotePayload vote) {
+        return new CreateVoteResult(index, true, "투표가 생성되었습니다.", vote);
+    }
+
+    public static CreateVoteResult rejected(int index, String message) {
+        return new CreateVoteResult(index, false, message, null);
+    }
+}
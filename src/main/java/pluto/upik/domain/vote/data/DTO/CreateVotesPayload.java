@@ -0,0 +1,16 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 투표 생성 결과
+ */
+@Getter
+@AllArgsConstructor
+public class CreateVotesPayload {
+    private final int createdCount;
+    private final List<CreateVoteResult> results;
+}
@@ -0,0 +1,28 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 진행 중인 투표의 응답 검증용 정보
+ */
+@Getter
+@AllArgsConstructor
+public class OpenVote {
+    private final UUID voteId;
+    private final String title;
+    private final LocalDate finishedAt;
+    private final Map<UUID, String> options; // 옵션 ID -> 옵션 내용
+
+    public boolean hasOption(UUID optionId) {
+        return options.containsKey(optionId);
+    }
+
+    public String getOptionContent(UUID optionId) {
+        return options.get(optionId);
+    }
+}
@@ -18,6 +18,7 @@ public class VoteDetailPayload {
     private String category;
     private String status;
     private String createdBy;
+    private UUID createdById; // createdBy 배치 조회용 (스키마 비노출)
     private String finishedAt;
     private int totalResponses;
     private List<OptionWithStatsPayload> options;
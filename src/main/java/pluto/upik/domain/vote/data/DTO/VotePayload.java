@@ -53,4 +53,15 @@ public class VotePayload {
                 .options(optionStats)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 정적 팩토리 메서드 (options, totalResponses는 배치 리졸버에서 채움)
+    public static VotePayload fromEntity(Vote vote) {
+        return VotePayload.builder()
+                .id(vote.getId())
+                .title(vote.getQuestion())
+                .category(vote.getCategory())
+                .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .status(vote.getStatus().name())
+                .build();
+    }
+}
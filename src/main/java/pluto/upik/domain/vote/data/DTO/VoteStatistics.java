@@ -0,0 +1,17 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 투표 하나에 대한 응답 통계
+ * 전체 응답 수와 옵션별 응답 수/비율을 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteStatistics {
+    private final int totalResponses;
+    private final List<OptionWithStatsPayload> options;
+}
@@ -0,0 +1,16 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 투표 종료 이벤트
+ * 투표가 CLOSED 상태로 바뀐 트랜잭션이 커밋된 뒤 처리됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteClosedEvent {
+    private final UUID voteId;
+}
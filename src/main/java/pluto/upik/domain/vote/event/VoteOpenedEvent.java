@@ -0,0 +1,32 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.vote.data.model.Vote;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 투표 시작 이벤트
+ * 투표가 새로 생성되거나 다시 열린 트랜잭션이 커밋된 뒤 처리됩니다.
+ * 응답 검증에 필요한 제목과 옵션을 함께 전달해 리스너가 다시 조회하지 않도록 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteOpenedEvent {
+    private final UUID voteId;
+    private final String title;
+    private final LocalDate finishedAt;
+    private final Map<UUID, String> options; // 옵션 ID -> 옵션 내용
+
+    public static VoteOpenedEvent of(Vote vote, Collection<Option> options) {
+        Map<UUID, String> contents = new LinkedHashMap<>();
+        options.forEach(option -> contents.put(option.getId(), option.getContent()));
+        return new VoteOpenedEvent(vote.getId(), vote.getQuestion(), vote.getFinishedAt(), contents);
+    }
+}
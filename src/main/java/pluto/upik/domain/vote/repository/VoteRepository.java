@@ -1,10 +1,14 @@
 package pluto.upik.domain.vote.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pluto.upik.domain.vote.data.model.Vote;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -51,4 +55,34 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
      * @return 해당 상태의 투표 목록
      */
     List<Vote> findByStatus(Vote.Status status);
+
+    /**
+     * 투표 목록의 첫 페이지를 ID 순으로 조회합니다.
+     *
+     * @param limit 조회할 최대 개수
+     * @return 투표 목록
+     */
+    @Query("SELECT v FROM Vote v ORDER BY v.id")
+    List<Vote> findFirstPage(Limit limit);
+
+    /**
+     * 커서 이후의 투표 목록을 ID 순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * @param afterId 커서의 투표 ID
+     * @param limit 조회할 최대 개수
+     * @return 투표 목록
+     */
+    @Query("SELECT v FROM Vote v WHERE v.id > :afterId ORDER BY v.id")
+    List<Vote> findPageAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    /**
+     * 진행 중인 투표들을 한 번에 종료합니다.
+     *
+     * @param ids 종료할 투표 ID 목록
+     * @return 종료된 투표 수
+     */
+    @Modifying
+    @Query("UPDATE Vote v SET v.status = pluto.upik.domain.vote.data.model.Vote.Status.CLOSED " +
+            "WHERE v.id IN :ids AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
+    int closeOpenVotes(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,81 @@
+package pluto.upik.domain.vote.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.user.data.model.User;
+import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteStatistics;
+import pluto.upik.domain.vote.service.VoteStatisticsService;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 하위 필드 배치 리졸버
+ * 한 요청에서 조회된 투표들의 옵션, 응답 수, 작성자를 필드별로 모아 한 번에 조회합니다.
+ * 클라이언트가 선택하지 않은 필드는 조회하지 않습니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class VoteFieldResolver {
+
+    private final VoteStatisticsService voteStatisticsService;
+    private final VoteCounterService voteCounterService;
+    private final UserRepository userRepository;
+
+    @BatchMapping(typeName = "VotePayload", field = "options")
+    public List<List<OptionWithStatsPayload>> options(List<VotePayload> votes) {
+        return loadOptions(votes, VotePayload::getId);
+    }
+
+    @BatchMapping(typeName = "VotePayload", field = "totalResponses")
+    public List<Integer> totalResponses(List<VotePayload> votes) {
+        return loadTotalResponses(votes, VotePayload::getId);
+    }
+
+    @BatchMapping(typeName = "VoteDetailPayload", field = "options")
+    public List<List<OptionWithStatsPayload>> detailOptions(List<VoteDetailPayload> votes) {
+        return loadOptions(votes, VoteDetailPayload::getId);
+    }
+
+    @BatchMapping(typeName = "VoteDetailPayload", field = "totalResponses")
+    public List<Integer> detailTotalResponses(List<VoteDetailPayload> votes) {
+        return loadTotalResponses(votes, VoteDetailPayload::getId);
+    }
+
+    @BatchMapping(typeName = "VoteDetailPayload", field = "createdBy")
+    public List<String> createdBy(List<VoteDetailPayload> votes) {
+        Set<UUID> userIds = votes.stream()
+                .map(VoteDetailPayload::getCreatedById)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, String> usernames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+
+        return votes.stream()
+                .map(vote -> vote.getCreatedById() != null ? usernames.get(vote.getCreatedById()) : null)
+                .toList();
+    }
+
+    private <T> List<List<OptionWithStatsPayload>> loadOptions(List<T> votes, Function<T, UUID> idOf) {
+        Map<UUID, VoteStatistics> statistics = voteStatisticsService.getStatistics(
+                votes.stream().map(idOf).collect(Collectors.toSet()));
+        return votes.stream()
+                .map(vote -> statistics.get(idOf.apply(vote)).getOptions())
+                .toList();
+    }
+
+    private <T> List<Integer> loadTotalResponses(List<T> votes, Function<T, UUID> idOf) {
+        Map<UUID, Long> counts = voteCounterService.getVoteResponseCounts(
+                votes.stream().map(idOf).collect(Collectors.toSet()));
+        return votes.stream()
+                .map(vote -> counts.get(idOf.apply(vote)).intValue())
+                .toList();
+    }
+}
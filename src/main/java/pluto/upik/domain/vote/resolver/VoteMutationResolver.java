@@ -6,8 +6,11 @@ import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 import pluto.upik.domain.vote.application.VoteApplication;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
+import pluto.upik.domain.vote.data.DTO.CreateVotesPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 public class VoteMutationResolver {
@@ -18,4 +21,9 @@ public class VoteMutationResolver {
     public VotePayload createVote(@Argument CreateVoteInput input) {
         return voteApplication.createVote(input);
     }
-}
\ No newline at end of file
+
+    @SchemaMapping(typeName = "VoteMutation", field = "createVotes")
+    public CreateVotesPayload createVotes(@Argument List<CreateVoteInput> inputs) {
+        return voteApplication.createVotes(inputs);
+    }
+}
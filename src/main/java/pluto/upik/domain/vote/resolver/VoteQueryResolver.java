@@ -1,5 +1,6 @@
 package pluto.upik.domain.vote.resolver;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Controller;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 import pluto.upik.domain.vote.service.VoteService;
+import pluto.upik.shared.pagination.CursorPagination;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +24,11 @@ public class VoteQueryResolver {
         return voteService.getAllVotes();
     }
 
+    @SchemaMapping(typeName = "VoteQuery", field = "votes")
+    public Connection<VotePayload> votes(@Argument Integer first, @Argument String after) {
+        return voteService.getVotes(first, after);
+    }
+
     @SchemaMapping(typeName = "VoteQuery", field = "getVoteById")
     public VoteDetailPayload getVoteById(@Argument String id) {
         return voteService.getVoteById(UUID.fromString(id));
@@ -36,4 +43,10 @@ public class VoteQueryResolver {
     public VotePayload getLeastPopularOpenVote() {
         return voteService.getLeastPopularOpenVote();
     }
-}
\ No newline at end of file
+
+    @SchemaMapping(typeName = "VoteQuery", field = "topOpenVotes")
+    public List<VotePayload> topOpenVotes(@Argument int limit) {
+        // 음수는 빈 목록으로, 너무 큰 값은 페이지 최대 크기로 보정합니다.
+        return voteService.getTopOpenVotes(Math.clamp(limit, 0, CursorPagination.MAX_PAGE_SIZE));
+    }
+}
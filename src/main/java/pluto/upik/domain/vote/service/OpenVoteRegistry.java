@@ -0,0 +1,91 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.DTO.OpenVote;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 투표 레지스트리
+ * OPEN 상태 투표의 옵션 ID와 종료일을 메모리에 유지해 투표 응답 검증 시 투표와 옵션을 조회하지 않도록 합니다.
+ * 시작 시 한 번 적재하고 이후에는 투표 생성, 재개, 종료 이벤트로 갱신합니다.
+ * 레지스트리에 없는 투표는 호출하는 쪽에서 DB로 확인합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OpenVoteRegistry {
+
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+
+    private final Map<UUID, OpenVote> openVotes = new ConcurrentHashMap<>();
+
+    /**
+     * OPEN 상태 투표를 적재합니다.
+     * 적재 중 커밋된 종료 이벤트가 적재 결과에 덮어써지지 않도록 이벤트 처리와 같은 잠금을 사용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        List<Vote> votes = voteRepository.findByStatus(Vote.Status.OPEN);
+        Map<UUID, List<Option>> optionsByVote = optionRepository.findByVoteIdIn(
+                        votes.stream().map(Vote::getId).toList()).stream()
+                .collect(Collectors.groupingBy(option -> option.getVote().getId()));
+
+        openVotes.clear();
+        for (Vote vote : votes) {
+            register(VoteOpenedEvent.of(vote, optionsByVote.getOrDefault(vote.getId(), List.of())));
+        }
+        log.info("진행 중인 투표 레지스트리 적재 완료 - 투표 수: {}", openVotes.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onVoteOpened(VoteOpenedEvent event) {
+        register(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onVoteClosed(VoteClosedEvent event) {
+        openVotes.remove(event.getVoteId());
+    }
+
+    /**
+     * 진행 중인 투표를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 레지스트리에 있으면 투표 정보, 없으면 빈 값
+     */
+    public Optional<OpenVote> find(UUID voteId) {
+        return Optional.ofNullable(openVotes.get(voteId));
+    }
+
+    /**
+     * 레지스트리의 모든 진행 중인 투표
+     */
+    public Collection<OpenVote> getOpenVotes() {
+        return List.copyOf(openVotes.values());
+    }
+
+    private void register(VoteOpenedEvent event) {
+        openVotes.put(event.getVoteId(), new OpenVote(
+                event.getVoteId(),
+                event.getTitle(),
+                event.getFinishedAt(),
+                Map.copyOf(event.getOptions())
+        ));
+    }
+}
@@ -0,0 +1,150 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 진행 중인 투표 인기 순위 서비스
+ * OPEN 상태 투표를 응답 수 순으로 정렬된 메모리 인덱스로 유지합니다.
+ * 투표 생성, 응답, 종료 이벤트마다 해당 투표의 위치만 갱신하므로
+ * 최다/최소 응답 투표와 상위 N개 투표를 vote_response 조회 없이 O(log n)으로 찾을 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteRankingService {
+
+    private final VoteRepository voteRepository;
+    private final VoteCounterService voteCounterService;
+
+    private final NavigableSet<RankEntry> ranking = new ConcurrentSkipListSet<>();
+    private final Map<UUID, RankEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * OPEN 상태 투표로 순위를 다시 구성합니다.
+     * 애플리케이션 시작 시 메모리 카운터 적재가 끝난 뒤 호출됩니다.
+     */
+    public synchronized void rebuild() {
+        List<UUID> openVoteIds = voteRepository.findByStatus(Vote.Status.OPEN).stream()
+                .map(Vote::getId)
+                .toList();
+        voteCounterService.load(openVoteIds);
+
+        ranking.clear();
+        entries.clear();
+        openVoteIds.forEach(voteId -> put(voteId, voteCounterService.getVoteResponseCount(voteId)));
+        log.info("투표 인기 순위 구성 완료 - 진행 중인 투표 수: {}", openVoteIds.size());
+    }
+
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onVoteOpened(VoteOpenedEvent event) {
+        put(event.getVoteId(), voteCounterService.getVoteResponseCount(event.getVoteId()));
+    }
+
+    /**
+     * 응답 수 카운터가 먼저 갱신된 뒤 실행되도록 카운터 리스너보다 뒤에 처리합니다.
+     * 잠금 안에서 최신 카운터 값을 읽으므로 이벤트 처리 순서가 뒤섞여도 마지막 값이 반영됩니다.
+     */
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onVoteResponseCreated(VoteResponseCreatedEvent event) {
+        if (entries.containsKey(event.getVoteId())) {
+            put(event.getVoteId(), voteCounterService.getVoteResponseCount(event.getVoteId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onVoteClosed(VoteClosedEvent event) {
+        RankEntry removed = entries.remove(event.getVoteId());
+        if (removed != null) {
+            ranking.remove(removed);
+        }
+    }
+
+    /**
+     * 응답 수가 가장 많은 진행 중인 투표 ID
+     */
+    public Optional<UUID> getMostPopular() {
+        Iterator<RankEntry> iterator = ranking.descendingIterator();
+        return iterator.hasNext() ? Optional.of(iterator.next().voteId) : Optional.empty();
+    }
+
+    /**
+     * 응답 수가 가장 적은 진행 중인 투표 ID
+     */
+    public Optional<UUID> getLeastPopular() {
+        Iterator<RankEntry> iterator = ranking.iterator();
+        return iterator.hasNext() ? Optional.of(iterator.next().voteId) : Optional.empty();
+    }
+
+    /**
+     * 응답 수가 많은 순으로 진행 중인 투표 ID를 조회합니다.
+     *
+     * @param limit 최대 개수 (0 이하이면 빈 목록)
+     * @return 응답 수 내림차순 투표 ID 목록
+     */
+    public List<UUID> getTopOpenVotes(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return ranking.descendingSet().stream()
+                .limit(limit)
+                .map(entry -> entry.voteId)
+                .toList();
+    }
+
+    private void put(UUID voteId, long responseCount) {
+        RankEntry entry = new RankEntry(voteId, responseCount);
+        RankEntry previous = entries.put(voteId, entry);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(entry);
+    }
+
+    /**
+     * 순위 항목 (응답 수, 투표 ID 순으로 정렬)
+     */
+    private static final class RankEntry implements Comparable<RankEntry> {
+        private final UUID voteId;
+        private final long responseCount;
+
+        private RankEntry(UUID voteId, long responseCount) {
+            this.voteId = voteId;
+            this.responseCount = responseCount;
+        }
+
+        @Override
+        public int compareTo(RankEntry other) {
+            int byCount = Long.compare(responseCount, other.responseCount);
+            return byCount != 0 ? byCount : voteId.compareTo(other.voteId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RankEntry other)) return false;
+            return responseCount == other.responseCount && voteId.equals(other.voteId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(voteId, responseCount);
+        }
+    }
+}
@@ -1,21 +1,23 @@
 package pluto.upik.domain.vote.service;
 
+import graphql.relay.Connection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.option.repository.OptionRepository;
-import pluto.upik.domain.user.data.model.User;
-import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
-import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
-import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.pagination.CursorPagination;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -29,8 +31,8 @@ public class VoteService {
 
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
-    private final VoteResponseRepository voteResponseRepository;
-    private final UserRepository userRepository;
+    private final VoteRankingService voteRankingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public VotePayload createVote(CreateVoteInput input) {
         // 1. Vote 엔티티 생성
@@ -48,12 +50,14 @@ public class VoteService {
         // 3. Option들 생성
         List<Option> options = input.getOptions().stream().map(content ->
                 Option.builder()
+                        .id(UUID.randomUUID())
                         .vote(savedVote)
                         .content(content)
                         .build()
         ).toList();
         // 4. Option들 저장
         List<Option> savedOptions = optionRepository.saveAll(options);
+        eventPublisher.publishEvent(VoteOpenedEvent.of(savedVote, savedOptions));
 
         // 5. 정적 팩토리 메서드 사용하여 VotePayload 반환
         return VotePayload.fromEntity(savedVote, savedOptions);
@@ -61,34 +65,32 @@ public class VoteService {
 
     @Transactional(readOnly = true)
     public List<VotePayload> getAllVotes() {
-        List<Vote> votes = voteRepository.findAll();
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
-        }
-
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue()
-            ));
-        }
+        return voteRepository.findAll().stream()
+                .map(VotePayload::fromEntity)
+                .toList();
+    }
 
-        return votePayloads;
+    /**
+     * 투표 목록을 커서 기반으로 조회합니다.
+     *
+     * @param first 페이지 크기
+     * @param after 이 커서 이후부터 조회
+     * @return 투표 Connection
+     */
+    @Transactional(readOnly = true)
+    public Connection<VotePayload> getVotes(Integer first, String after) {
+        int pageSize = CursorPagination.pageSize(first);
+        Limit limit = CursorPagination.fetchLimit(pageSize);
+        List<Vote> votes = after == null
+                ? voteRepository.findFirstPage(limit)
+                : voteRepository.findPageAfter(UUID.fromString(CursorPagination.decode(after, 1).get(0)), limit);
+
+        List<VotePayload> payloads = votes.stream()
+                .map(VotePayload::fromEntity)
+                .toList();
+
+        return CursorPagination.toConnection(payloads, pageSize, after != null,
+                payload -> CursorPagination.encode(payload.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -96,120 +98,74 @@ public class VoteService {
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
 
-        List<Option> options = optionRepository.findByVoteId(voteId);
-        Long totalResponses = voteResponseRepository.countByVoteId(voteId);
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
-        }
-
-        String creatorName = null;
-        if (vote.getUser() != null) {
-            User creator = userRepository.findById(vote.getUser().getId())
-                    .orElse(null);
-            if (creator != null) {
-                creatorName = creator.getUsername();
-            }
-        }
-
         return VoteDetailPayload.builder()
                 .id(vote.getId())
                 .title(vote.getQuestion())
                 .category(vote.getCategory())
                 .status(vote.getStatus().name())
-                .createdBy(creatorName)
+                .createdById(vote.getUser() != null ? vote.getUser().getId() : null)
                 .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .totalResponses(totalResponses.intValue())
-                .options(optionStats)
                 .build();
     }
 
     // 새로 추가하는 메서드: 응답 수가 가장 많은 OPEN 상태 투표 조회
     @Transactional(readOnly = true)
     public VotePayload getMostPopularOpenVote() {
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        if (openVotes.isEmpty()) {
-            return null;
-        }
-
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : openVotes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
-
-        // 응답 수가 가장 많은 투표 찾기
-        Map.Entry<Vote, Long> mostPopular = Collections.max(
-            voteResponseCounts.entrySet(),
-            Map.Entry.comparingByValue()
-        );
-
-        Vote vote = mostPopular.getKey();
-        Long totalResponses = mostPopular.getValue();
-        List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
-        }
-
-        return VotePayload.fromEntityWithStats(vote, options, optionStats, totalResponses.intValue());
+        return voteRankingService.getMostPopular()
+                .map(this::getVotePayload)
+                .orElse(null);
     }
 
     // 새로 추가하는 메서드: 응답 수가 가장 적은 OPEN 상태 투표 조회
     @Transactional(readOnly = true)
     public VotePayload getLeastPopularOpenVote() {
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        if (openVotes.isEmpty()) {
-            return null;
-        }
+        return voteRankingService.getLeastPopular()
+                .map(this::getVotePayload)
+                .orElse(null);
+    }
 
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : openVotes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
+    /**
+     * 응답 수가 많은 순으로 진행 중인 투표를 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return 응답 수 내림차순 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getTopOpenVotes(int limit) {
+        List<UUID> voteIds = voteRankingService.getTopOpenVotes(limit);
+        Map<UUID, Vote> votes = voteRepository.findAllById(voteIds).stream()
+                .collect(Collectors.toMap(Vote::getId, vote -> vote));
+
+        return voteIds.stream()
+                .filter(votes::containsKey)
+                .map(voteId -> VotePayload.fromEntity(votes.get(voteId)))
+                .toList();
+    }
 
-        // 응답 수가 가장 적은 투표 찾기
-        Map.Entry<Vote, Long> leastPopular = Collections.min(
-            voteResponseCounts.entrySet(),
-            Map.Entry.comparingByValue()
-        );
-
-        Vote vote = leastPopular.getKey();
-        Long totalResponses = leastPopular.getValue();
-        List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
+    /**
+     * 종료 시각이 지난 투표들을 한 번의 UPDATE로 종료합니다.
+     * 이미 종료된 투표는 건너뛰고, 실제로 종료한 투표에 대해서만 종료 이벤트를 발행합니다.
+     *
+     * @param voteIds 종료할 투표 ID 목록
+     * @return 이번에 종료된 투표 목록
+     */
+    public List<Vote> closeVotes(Collection<UUID> voteIds) {
+        List<Vote> openVotes = voteRepository.findAllById(voteIds).stream()
+                .filter(vote -> vote.getStatus() == Vote.Status.OPEN)
+                .toList();
+        if (openVotes.isEmpty()) {
+            return openVotes;
         }
 
-        return VotePayload.fromEntityWithStats(vote, options, optionStats, totalResponses.intValue());
+        int closed = voteRepository.closeOpenVotes(openVotes.stream().map(Vote::getId).toList());
+        openVotes.forEach(vote -> eventPublisher.publishEvent(new VoteClosedEvent(vote.getId())));
+        log.info("투표 일괄 종료 - 요청: {}, 종료: {}", voteIds.size(), closed);
+        return openVotes;
+    }
+
+    private VotePayload getVotePayload(UUID voteId) {
+        Vote vote = voteRepository.findById(voteId)
+                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
+        return VotePayload.fromEntity(vote);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteStatistics;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 통계 서비스
+ * 옵션별 응답 수는 메모리 카운터에서 읽고, 투표 수와 관계없이 옵션 일괄 조회 1회로
+ * 여러 투표의 옵션별 응답 통계를 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class VoteStatisticsService {
+
+    private final OptionRepository optionRepository;
+    private final VoteCounterService voteCounterService;
+
+    /**
+     * 여러 투표의 통계를 한 번에 계산합니다.
+     *
+     * @param voteIds 통계를 계산할 투표 ID 목록
+     * @return 투표 ID별 통계 (옵션이 없는 투표는 빈 통계)
+     */
+    public Map<UUID, VoteStatistics> getStatistics(Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<UUID, Long> optionCounts = voteCounterService.getResponseCounts(voteIds);
+
+        Map<UUID, List<Option>> optionsByVote = optionRepository.findByVoteIdIn(voteIds).stream()
+                .collect(Collectors.groupingBy(option -> option.getVote().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        Map<UUID, VoteStatistics> statistics = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            List<Option> options = optionsByVote.getOrDefault(voteId, Collections.emptyList());
+            statistics.put(voteId, buildStatistics(options, optionCounts));
+        }
+
+        log.debug("투표 통계 계산 완료 - 투표 수: {}", voteIds.size());
+        return statistics;
+    }
+
+    /**
+     * 단일 투표의 통계를 계산합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 투표 통계
+     */
+    public VoteStatistics getStatistics(UUID voteId) {
+        return getStatistics(List.of(voteId)).get(voteId);
+    }
+
+    private VoteStatistics buildStatistics(List<Option> options, Map<UUID, Long> optionCounts) {
+        long totalResponses = options.stream()
+                .mapToLong(option -> optionCounts.getOrDefault(option.getId(), 0L))
+                .sum();
+
+        List<OptionWithStatsPayload> optionStats = new ArrayList<>(options.size());
+        for (Option option : options) {
+            long optionCount = optionCounts.getOrDefault(option.getId(), 0L);
+            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
+
+            optionStats.add(new OptionWithStatsPayload(
+                    option.getId(),
+                    option.getContent(),
+                    (int) optionCount,
+                    percentage
+            ));
+        }
+
+        return new VoteStatistics((int) totalResponses, optionStats);
+    }
+}
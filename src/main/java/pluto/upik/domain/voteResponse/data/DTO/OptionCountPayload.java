@@ -0,0 +1,16 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 옵션별 현재 응답 수
+ */
+@Getter
+@AllArgsConstructor
+public class OptionCountPayload {
+    private final UUID optionId;
+    private final long responseCount;
+}
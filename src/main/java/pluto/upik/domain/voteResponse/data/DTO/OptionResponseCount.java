@@ -0,0 +1,16 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import java.util.UUID;
+
+/**
+ * 투표/옵션별 응답 수 집계 프로젝션
+ * vote_response 테이블을 (vote_id, option_id)로 그룹화한 결과 한 행을 나타냅니다.
+ */
+public interface OptionResponseCount {
+
+    UUID getVoteId();
+
+    UUID getOptionId();
+
+    Long getResponseCount();
+}
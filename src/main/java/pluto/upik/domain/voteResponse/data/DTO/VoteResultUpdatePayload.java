@@ -0,0 +1,19 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 투표 결과 구독으로 전달되는 변경분
+ * options에는 직전 전송 이후 응답 수가 바뀐 옵션만 담기며, 값은 증가분이 아닌 현재 응답 수입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteResultUpdatePayload {
+    private final UUID voteId;
+    private final long totalResponses;
+    private final List<OptionCountPayload> options;
+}
@@ -0,0 +1,17 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 옵션 집계에 반영할 응답 수 증가분
+ */
+@Getter
+@AllArgsConstructor
+public class VoteTallyDelta {
+    private final UUID voteId;
+    private final UUID optionId;
+    private final long delta;
+}
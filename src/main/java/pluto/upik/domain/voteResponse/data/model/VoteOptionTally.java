@@ -0,0 +1,44 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 옵션별 응답 수 집계 엔티티
+ * vote_response 원본 행을 매번 세지 않도록 옵션별 응답 수를 미리 집계해 저장하는 읽기 모델입니다.
+ */
+@Entity
+@Table(name = "vote_option_tally", indexes = {
+        @Index(name = "idx_vote_option_tally_vote_id", columnList = "vote_id")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VoteOptionTally {
+
+    /**
+     * 옵션 ID (기본 키)
+     */
+    @Id
+    @Column(name = "option_id", columnDefinition = "BINARY(16)")
+    private UUID optionId;
+
+    /**
+     * 옵션이 속한 투표 ID
+     */
+    @Column(name = "vote_id", columnDefinition = "uuid", nullable = false)
+    private UUID voteId;
+
+    /**
+     * 옵션의 응답 수
+     */
+    @Column(name = "response_count", nullable = false)
+    private long responseCount;
+}
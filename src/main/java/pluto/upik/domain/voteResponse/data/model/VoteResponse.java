@@ -19,7 +19,8 @@ import java.util.UUID;
  * 사용자가 제출한 투표 응답 정보를 저장합니다.
  */
 @Entity
-@Table(name = "vote_response")
+@Table(name = "vote_response",
+        uniqueConstraints = @UniqueConstraint(name = VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT, columnNames = {"user_id", "vote_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,6 +28,11 @@ import java.util.UUID;
 @ToString(exclude = {"user", "vote", "selectedOption"}) // 순환 참조 방지
 public class VoteResponse {
 
+    /**
+     * 사용자당 투표 1회 응답을 보장하는 유니크 제약 이름
+     */
+    public static final String USER_VOTE_UNIQUE_CONSTRAINT = "uk_vote_response_user_vote";
+
     /**
      * 투표 응답 ID (기본 키)
      */
@@ -0,0 +1,17 @@
+package pluto.upik.domain.voteResponse.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 투표 응답 생성 이벤트
+ * 투표 응답이 저장된 트랜잭션이 커밋된 뒤 처리됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteResponseCreatedEvent {
+    private final UUID voteId;
+    private final UUID optionId;
+}
@@ -0,0 +1,47 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 옵션별 응답 수 집계 레포지토리
+ */
+public interface VoteOptionTallyRepository extends JpaRepository<VoteOptionTally, UUID> {
+
+    List<VoteOptionTally> findByVoteIdIn(Collection<UUID> voteIds);
+
+    /**
+     * 옵션의 응답 수를 원자적으로 증가시킵니다.
+     *
+     * @param optionId 옵션 ID
+     * @param delta 증가시킬 응답 수
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE VoteOptionTally t SET t.responseCount = t.responseCount + :delta WHERE t.optionId = :optionId")
+    int incrementResponseCount(@Param("optionId") UUID optionId, @Param("delta") long delta);
+
+    /**
+     * 현재 값이 예상 값과 같을 때만 응답 수를 교정합니다.
+     * 교정 도중 들어온 응답으로 값이 바뀌었다면 갱신하지 않습니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE VoteOptionTally t SET t.responseCount = :responseCount " +
+            "WHERE t.optionId = :optionId AND t.responseCount = :expectedCount")
+    int correctResponseCount(@Param("optionId") UUID optionId,
+                             @Param("expectedCount") long expectedCount,
+                             @Param("responseCount") long responseCount);
+
+    @Modifying
+    @Query("DELETE FROM VoteOptionTally t WHERE t.voteId = :voteId")
+    void deleteByVoteId(@Param("voteId") UUID voteId);
+}
@@ -4,8 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import pluto.upik.domain.voteResponse.data.DTO.OptionResponseCount;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,4 +34,16 @@ public interface VoteResponseRepository extends JpaRepository<VoteResponse, Long
     // 특정 옵션의 응답 수
     @Query("SELECT COUNT(vr) FROM VoteResponse vr WHERE vr.selectedOption.id = :optionId")
     Long countByOptionId(@Param("optionId") UUID optionId);
+
+    /**
+     * 여러 투표의 옵션별 응답 수를 한 번의 그룹 집계 쿼리로 조회합니다.
+     * 응답이 없는 옵션은 결과에 포함되지 않습니다.
+     *
+     * @param voteIds 집계할 투표 ID 목록
+     * @return (투표 ID, 옵션 ID, 응답 수) 목록
+     */
+    @Query("SELECT vr.vote.id AS voteId, vr.selectedOption.id AS optionId, COUNT(vr) AS responseCount " +
+            "FROM VoteResponse vr WHERE vr.vote.id IN :voteIds " +
+            "GROUP BY vr.vote.id, vr.selectedOption.id")
+    List<OptionResponseCount> countByVoteIdsGroupByOption(@Param("voteIds") Collection<UUID> voteIds);
 }
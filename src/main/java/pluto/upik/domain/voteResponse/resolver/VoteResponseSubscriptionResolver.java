@@ -0,0 +1,23 @@
+package pluto.upik.domain.voteResponse.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResultUpdatePayload;
+import pluto.upik.domain.voteResponse.service.VoteResultBroadcaster;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+public class VoteResponseSubscriptionResolver {
+
+    private final VoteResultBroadcaster voteResultBroadcaster;
+
+    @SubscriptionMapping
+    public Flux<VoteResultUpdatePayload> voteResultsUpdated(@Argument UUID voteId) {
+        return voteResultBroadcaster.subscribe(voteId);
+    }
+}
@@ -0,0 +1,256 @@
+package pluto.upik.domain.voteResponse.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.voteResponse.data.DTO.VoteTallyDelta;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 투표 응답 수 메모리 카운터 서비스
+ * 옵션별 응답 수를 LongAdder 셀로 보관해 결과 조회 시 DB를 거치지 않도록 합니다.
+ * 응답 수 증가는 커밋 이후 메모리에만 반영되고, 주기적으로 모아서 vote_option_tally에 기록됩니다.
+ * 재시작 시에는 원본 응답 데이터로 교정된 집계 테이블에서 다시 적재되므로 기록되지 못한 증가분도 복구됩니다.
+ * 종료된 투표의 카운터는 정합성 검사 주기마다 기록 후 제거되어 다시 교정 대상이 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteCounterService {
+
+    private final VoteTallyService voteTallyService;
+
+    private final Map<UUID, Set<UUID>> optionIdsByVote = new ConcurrentHashMap<>();
+    private final Map<UUID, OptionCounter> optionCounters = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    /**
+     * 집계 테이블의 값으로 투표들의 카운터를 적재합니다.
+     * 이미 적재된 투표는 건너뜁니다.
+     *
+     * @param voteIds 적재할 투표 ID 목록
+     */
+    public void load(Collection<UUID> voteIds) {
+        loadOptionIds(voteIds);
+    }
+
+    /**
+     * 투표들의 카운터를 적재하고 투표별 옵션 ID 목록을 돌려줍니다.
+     * 조회 도중 다른 스레드가 투표를 제거해도 이미 얻은 목록을 사용하므로 null을 만나지 않습니다.
+     */
+    private Map<UUID, Set<UUID>> loadOptionIds(Collection<UUID> voteIds) {
+        Map<UUID, Set<UUID>> result = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID voteId : new LinkedHashSet<>(voteIds)) {
+            Set<UUID> optionIds = optionIdsByVote.get(voteId);
+            if (optionIds != null) {
+                result.put(voteId, optionIds);
+            } else {
+                missing.add(voteId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, List<VoteOptionTally>> talliesByVote = new HashMap<>();
+        missing.forEach(voteId -> talliesByVote.put(voteId, new ArrayList<>()));
+        voteTallyService.getTallies(missing)
+                .forEach(tally -> talliesByVote.get(tally.getVoteId()).add(tally));
+
+        talliesByVote.forEach((voteId, tallies) -> result.put(voteId, optionIdsByVote.computeIfAbsent(voteId, id -> {
+            Set<UUID> optionIds = ConcurrentHashMap.newKeySet();
+            for (VoteOptionTally tally : tallies) {
+                OptionCounter counter = new OptionCounter(voteId);
+                counter.total.add(tally.getResponseCount());
+                optionCounters.put(tally.getOptionId(), counter);
+                optionIds.add(tally.getOptionId());
+            }
+            return optionIds;
+        })));
+        log.debug("투표 카운터 적재 - 투표 수: {}", missing.size());
+        return result;
+    }
+
+    /**
+     * 삭제된 투표의 카운터를 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(UUID voteId) {
+        Set<UUID> optionIds = optionIdsByVote.remove(voteId);
+        if (optionIds != null) {
+            optionIds.forEach(optionCounters::remove);
+        }
+    }
+
+    /**
+     * 종료된 투표의 카운터를 쌓인 증가분을 기록한 뒤 제거합니다.
+     * 종료된 투표에는 새 응답이 들어오지 않으므로, 기록과 제거 사이에 늦게 도착한 증가분이 빠지더라도
+     * 제거된 투표는 정합성 검사 대상이 되어 원본 응답 데이터로 교정됩니다.
+     *
+     * @param voteIds 종료된 투표 ID 목록
+     */
+    public void evictClosed(Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            flush();
+            voteIds.forEach(this::evict);
+        }
+        log.debug("종료된 투표 카운터 제거 - 투표 수: {}", voteIds.size());
+    }
+
+    /**
+     * 여러 투표의 옵션별 응답 수를 조회합니다.
+     * 적재되지 않은 투표만 집계 테이블에서 한 번에 적재합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 옵션 ID별 응답 수
+     */
+    public Map<UUID, Long> getResponseCounts(Collection<UUID> voteIds) {
+        Map<UUID, Set<UUID>> optionIdsByVoteId = loadOptionIds(voteIds);
+        Map<UUID, Long> counts = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            for (UUID optionId : optionIdsByVoteId.get(voteId)) {
+                counts.put(optionId, getOptionResponseCount(optionId));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 여러 투표의 전체 응답 수를 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID별 응답 수
+     */
+    public Map<UUID, Long> getVoteResponseCounts(Collection<UUID> voteIds) {
+        Map<UUID, Set<UUID>> optionIdsByVoteId = loadOptionIds(voteIds);
+        Map<UUID, Long> counts = new HashMap<>();
+        for (UUID voteId : voteIds) {
+            counts.put(voteId, sumResponseCounts(optionIdsByVoteId.get(voteId)));
+        }
+        return counts;
+    }
+
+    public long getVoteResponseCount(UUID voteId) {
+        return sumResponseCounts(loadOptionIds(List.of(voteId)).get(voteId));
+    }
+
+    /**
+     * 옵션의 응답 수를 조회합니다.
+     * 카운터가 없는 옵션은 메모리에 쌓인 증가분도 없으므로 집계 테이블 값을 그대로 사용합니다.
+     */
+    public long getOptionResponseCount(UUID optionId) {
+        OptionCounter counter = optionCounters.get(optionId);
+        return counter != null ? counter.total.sum() : voteTallyService.getOptionResponseCount(optionId);
+    }
+
+    private long sumResponseCounts(Set<UUID> optionIds) {
+        return optionIds.stream()
+                .mapToLong(this::getOptionResponseCount)
+                .sum();
+    }
+
+    /**
+     * 현재 메모리 카운터가 관리 중인 투표 ID 목록
+     */
+    public Set<UUID> getLoadedVoteIds() {
+        return Set.copyOf(optionIdsByVote.keySet());
+    }
+
+    /**
+     * 카운터 기록을 멈춘 상태에서, 그 시점에 적재된 투표 ID 목록으로 작업을 실행합니다.
+     * 집계 교정 한 페이지를 커밋까지 이 안에서 실행하면 교정과 증가분 기록이 같은 집계 행에 겹쳐 쓰이지 않습니다.
+     *
+     * @param action 적재된 투표 ID 목록을 받아 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T callWithLoadedVoteIds(Function<Set<UUID>, T> action) {
+        synchronized (flushLock) {
+            return action.apply(getLoadedVoteIds());
+        }
+    }
+
+    /**
+     * 투표 응답 트랜잭션이 커밋되면 해당 옵션의 카운터를 증가시킵니다.
+     * 카운터 값을 읽는 다른 리스너보다 먼저 실행됩니다.
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteResponseCreated(VoteResponseCreatedEvent event) {
+        Set<UUID> optionIds = loadOptionIds(List.of(event.getVoteId())).get(event.getVoteId());
+        OptionCounter counter = optionCounters.computeIfAbsent(event.getOptionId(), id -> {
+            optionIds.add(id);
+            return new OptionCounter(event.getVoteId());
+        });
+        counter.total.increment();
+        counter.pending.increment();
+    }
+
+    /**
+     * 쌓인 증가분을 집계 테이블에 일괄 기록합니다.
+     * 기록에 실패하면 증가분을 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${upik.vote.counter.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<VoteTallyDelta> deltas = new ArrayList<>();
+            List<OptionCounter> drained = new ArrayList<>();
+
+            optionCounters.forEach((optionId, counter) -> {
+                long delta = counter.pending.sumThenReset();
+                if (delta != 0) {
+                    deltas.add(new VoteTallyDelta(counter.voteId, optionId, delta));
+                    drained.add(counter);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                voteTallyService.applyDeltas(deltas);
+                log.debug("투표 카운터 기록 완료 - 옵션 수: {}", deltas.size());
+            } catch (Exception e) {
+                for (int i = 0; i < deltas.size(); i++) {
+                    drained.get(i).pending.add(deltas.get(i).getDelta());
+                }
+                log.error("투표 카운터 기록 실패 - 다음 주기에 재시도합니다. 옵션 수: {}", deltas.size(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 투표 카운터 기록");
+        flush();
+    }
+
+    /**
+     * 옵션 하나의 카운터
+     * total은 조회용 누적 값, pending은 아직 집계 테이블에 기록되지 않은 증가분입니다.
+     */
+    private static class OptionCounter {
+        private final UUID voteId;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+
+        private OptionCounter(UUID voteId) {
+            this.voteId = voteId;
+        }
+    }
+}
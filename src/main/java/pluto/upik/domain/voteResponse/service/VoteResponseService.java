@@ -2,23 +2,26 @@ package pluto.upik.domain.voteResponse.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.option.repository.OptionRepository;
-import pluto.upik.domain.user.data.model.User;
 import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.OpenVote;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.OpenVoteRegistry;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -28,9 +31,12 @@ import java.util.UUID;
 public class VoteResponseService {
 
     private final VoteResponseRepository voteResponseRepository;
-    private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
+    private final VoteRepository voteRepository;
+    private final OpenVoteRegistry openVoteRegistry;
+    private final VoteCounterService voteCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public boolean hasUserVoted(UUID userId, UUID voteId) {
@@ -38,60 +44,108 @@ public class VoteResponseService {
     }
 
 
+    /**
+     * 투표 응답을 저장합니다.
+     * 진행 중인 투표는 레지스트리로 검증하고 투표, 옵션, 사용자는 참조 프록시로만 연결하므로
+     * 레지스트리에 있는 투표는 INSERT 한 번으로 처리됩니다.
+     * 중복 응답은 사전 조회 대신 (user_id, vote_id) 유니크 제약으로 막으므로
+     * 동시에 제출된 요청도 하나만 저장됩니다.
+     */
     public VoteResponsePayload createVoteResponse(CreateVoteResponseInput input, UUID userId) {
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        // 1. 진행 중인 투표 확인 (레지스트리에 없으면 DB 확인)
+        OpenVote openVote = openVoteRegistry.find(input.getVoteId())
+                .orElseGet(() -> loadOpenVote(input));
 
-        // 2. 투표 조회
-        Vote vote = voteRepository.findById(input.getVoteId())
-                .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다: " + input.getVoteId()));
+        // 2. 옵션이 해당 투표에 속하는지 확인
+        if (!openVote.hasOption(input.getOptionId())) {
+            throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
+        }
 
-        // 3. 옵션 조회
-        Option option = optionRepository.findById(input.getOptionId())
-                .orElseThrow(() -> new IllegalArgumentException("옵션을 찾을 수 없습니다: " + input.getOptionId()));
+        // 3. VoteResponse 생성 및 저장 (중복 응답은 유니크 제약 위반으로 감지)
+        VoteResponse voteResponse = VoteResponse.builder()
+                .user(userRepository.getReferenceById(userId))
+                .vote(voteRepository.getReferenceById(input.getVoteId()))
+                .selectedOption(optionRepository.getReferenceById(input.getOptionId()))
+                .createdAt(LocalDate.now())
+                .build();
 
-        log.info(user.toString());
-        log.info(vote.toString());
-        log.info(option.toString());
-        // 4. 투표 상태 확인
-        if (vote.getStatus() != Vote.Status.OPEN) {
-            throw new IllegalStateException("투표가 종료되었습니다.");
+        VoteResponse savedVoteResponse;
+        try {
+            savedVoteResponse = voteResponseRepository.saveAndFlush(voteResponse);
+        } catch (DataIntegrityViolationException e) {
+            if (isConstraintViolation(e, VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT)) {
+                throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
+            }
+            if (isForeignKeyViolation(e, "user_id")) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+            }
+            log.warn("투표 응답 저장 실패 - userId: {}, voteId: {}", userId, input.getVoteId(), e);
+            throw e;
         }
 
-        // 5. 옵션이 해당 투표에 속하는지 확인
-        if (!option.getVote().getId().equals(vote.getId())) {
-            throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
-        }
+        // 4. 커밋 이후 응답 수 카운터 갱신
+        eventPublisher.publishEvent(new VoteResponseCreatedEvent(input.getVoteId(), input.getOptionId()));
+
+        // 5. 응답 반환
+        return VoteResponsePayload.builder()
+                .id(savedVoteResponse.getId())
+                .userId(userId)
+                .voteId(openVote.getVoteId())
+                .optionId(input.getOptionId())
+                .optionContent(openVote.getOptionContent(input.getOptionId()))
+                .voteTitle(openVote.getTitle())
+                .createdAt(savedVoteResponse.getCreatedAt())
+                .build();
+    }
 
-        // 6. 중복 투표 확인
-        Optional<VoteResponse> existingResponse = voteResponseRepository
-                .findByUserIdAndVoteId(userId, input.getVoteId());
+    /**
+     * 레지스트리에 없는 투표를 DB에서 확인합니다.
+     * 옵션과 소속 투표를 한 번에 조회하며, 응답 검증에 필요한 해당 옵션만 담습니다.
+     */
+    private OpenVote loadOpenVote(CreateVoteResponseInput input) {
+        Option option = optionRepository.findWithVoteById(input.getOptionId())
+                .orElseThrow(() -> new IllegalArgumentException("옵션을 찾을 수 없습니다: " + input.getOptionId()));
+        Vote vote = option.getVote();
 
-        if (existingResponse.isPresent()) {
-            throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
+        if (!vote.getId().equals(input.getVoteId())) {
+            throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
         }
-        // 7. VoteResponse 생성 및 저장
-        VoteResponse voteResponse = VoteResponse.builder()
-                .user(user)
-                .vote(vote)
-                .selectedOption(option)
-                .createdAt(LocalDate.now())
-                .build();
+        if (vote.getStatus() != Vote.Status.OPEN) {
+            throw new IllegalStateException("투표가 종료되었습니다.");
+        }
+        return new OpenVote(vote.getId(), vote.getQuestion(), vote.getFinishedAt(),
+                Map.of(option.getId(), option.getContent()));
+    }
 
-        VoteResponse savedVoteResponse = voteResponseRepository.save(voteResponse);
+    private boolean isConstraintViolation(DataIntegrityViolationException e, String constraintName) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                        && violation.getConstraintName().toLowerCase().contains(constraintName);
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
 
-        // 8. 응답 반환
-        return VoteResponsePayload.fromEntity(savedVoteResponse);
+    /**
+     * 지정한 컬럼의 외래 키 위반인지 확인합니다.
+     * 외래 키 이름은 스키마마다 다를 수 있으므로 DB 오류 메시지의 "FOREIGN KEY (`컬럼`)" 부분으로 판단합니다.
+     */
+    private boolean isForeignKeyViolation(DataIntegrityViolationException e, String column) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase().replace("`", "").contains("foreign key (" + column + ")");
     }
 
     @Transactional(readOnly = true)
     public Long getVoteResponseCount(UUID voteId) {
-        return voteResponseRepository.countByVoteId(voteId);
+        return voteCounterService.getVoteResponseCount(voteId);
     }
 
     @Transactional(readOnly = true)
     public Long getOptionResponseCount(UUID optionId) {
-        return voteResponseRepository.countByOptionId(optionId);
+        return voteCounterService.getOptionResponseCount(optionId);
     }
 }
\ No newline at end of file
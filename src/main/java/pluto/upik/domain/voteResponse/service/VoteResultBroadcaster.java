@@ -0,0 +1,139 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.voteResponse.data.DTO.OptionCountPayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResultUpdatePayload;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투표 결과 실시간 전송 서비스
+ * 구독 중인 투표에 응답이 커밋되면 바뀐 옵션만 표시해 두고,
+ * 전송 주기마다 투표당 최대 한 번 메모리 카운터 값으로 변경분을 만들어 모든 구독자에게 전달합니다.
+ * 응답 하나가 구독자 수와 관계없이 DB 조회 없이 전파됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteResultBroadcaster {
+
+    private final VoteCounterService voteCounterService;
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * 투표 결과 변경분을 구독합니다.
+     * 구독 직후 현재 응답 수 전체를 먼저 전달합니다.
+     * 변경분 스트림에 먼저 연결한 뒤 현재 값을 읽으므로 그 사이에 전송된 변경분도 빠지지 않고,
+     * 이미 계산된 이전 값이 현재 값 뒤에 도착하더라도 다음 전송 주기에 모든 옵션의 최신 값을 다시 보냅니다.
+     *
+     * @param voteId 투표 ID
+     * @return 투표 결과 변경분 스트림
+     */
+    public Flux<VoteResultUpdatePayload> subscribe(UUID voteId) {
+        return Flux.defer(() -> {
+            Channel channel = channels.compute(voteId, (id, existing) -> {
+                Channel target = existing != null ? existing : new Channel();
+                target.subscribers++;
+                return target;
+            });
+            return Flux.<VoteResultUpdatePayload>create(emitter -> {
+                        Disposable updates = channel.sink.asFlux()
+                                .subscribe(emitter::next, emitter::error, emitter::complete);
+                        emitter.onDispose(updates);
+
+                        VoteResultUpdatePayload snapshot = snapshot(voteId);
+                        emitter.next(snapshot);
+                        snapshot.getOptions().forEach(option -> channel.changedOptionIds.add(option.getOptionId()));
+                    })
+                    .doFinally(signal -> release(voteId));
+        });
+    }
+
+    /**
+     * 구독 중인 투표의 응답만 변경 대상으로 표시합니다.
+     * 카운터가 먼저 갱신된 뒤 실행되도록 카운터 리스너보다 뒤에 처리합니다.
+     */
+    @Order(1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteResponseCreated(VoteResponseCreatedEvent event) {
+        Channel channel = channels.get(event.getVoteId());
+        if (channel != null) {
+            channel.changedOptionIds.add(event.getOptionId());
+        }
+    }
+
+    /**
+     * 표시된 변경분을 투표별로 모아 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${upik.vote.subscription.broadcast-interval-ms:500}")
+    public void broadcast() {
+        channels.forEach((voteId, channel) -> {
+            List<UUID> changed = channel.drainChangedOptionIds();
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            List<OptionCountPayload> options = changed.stream()
+                    .map(optionId -> new OptionCountPayload(optionId, voteCounterService.getOptionResponseCount(optionId)))
+                    .toList();
+            VoteResultUpdatePayload update = new VoteResultUpdatePayload(
+                    voteId, voteCounterService.getVoteResponseCount(voteId), options);
+
+            Sinks.EmitResult result = channel.sink.tryEmitNext(update);
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                log.warn("투표 결과 전송 실패 - voteId: {}, result: {}", voteId, result);
+            }
+        });
+    }
+
+    private VoteResultUpdatePayload snapshot(UUID voteId) {
+        List<OptionCountPayload> options = voteCounterService.getResponseCounts(List.of(voteId)).entrySet().stream()
+                .map(entry -> new OptionCountPayload(entry.getKey(), entry.getValue()))
+                .toList();
+        long totalResponses = options.stream().mapToLong(OptionCountPayload::getResponseCount).sum();
+        return new VoteResultUpdatePayload(voteId, totalResponses, options);
+    }
+
+    private void release(UUID voteId) {
+        channels.computeIfPresent(voteId, (id, channel) -> {
+            channel.subscribers--;
+            if (channel.subscribers > 0) {
+                return channel;
+            }
+            channel.sink.tryEmitComplete();
+            return null;
+        });
+    }
+
+    /**
+     * 투표 하나의 구독 채널
+     * subscribers는 channels.compute 안에서만 변경됩니다.
+     */
+    private static class Channel {
+        private final Sinks.Many<VoteResultUpdatePayload> sink = Sinks.many().multicast().directBestEffort();
+        private final Set<UUID> changedOptionIds = ConcurrentHashMap.newKeySet();
+        private int subscribers;
+
+        private List<UUID> drainChangedOptionIds() {
+            List<UUID> drained = new ArrayList<>();
+            Iterator<UUID> iterator = changedOptionIds.iterator();
+            while (iterator.hasNext()) {
+                drained.add(iterator.next());
+                iterator.remove();
+            }
+            return drained;
+        }
+    }
+}
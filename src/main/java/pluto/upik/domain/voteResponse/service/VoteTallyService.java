@@ -0,0 +1,155 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.data.DTO.OptionResponseCount;
+import pluto.upik.domain.voteResponse.data.DTO.VoteTallyDelta;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 옵션별 응답 수 집계 서비스
+ * vote_option_tally 읽기 모델의 갱신, 조회, 원본 데이터와의 정합성 교정을 담당합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class VoteTallyService {
+
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+    private final VoteResponseRepository voteResponseRepository;
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+
+    /**
+     * 메모리 카운터에 쌓인 응답 수 증가분을 집계 테이블에 일괄 반영합니다.
+     * 집계 행이 아직 없는 옵션은 증가분으로 집계 행을 생성합니다.
+     *
+     * @param deltas 옵션별 증가분 목록
+     */
+    public void applyDeltas(List<VoteTallyDelta> deltas) {
+        for (VoteTallyDelta delta : deltas) {
+            int updated = voteOptionTallyRepository.incrementResponseCount(delta.getOptionId(), delta.getDelta());
+            if (updated == 0) {
+                voteOptionTallyRepository.save(VoteOptionTally.builder()
+                        .optionId(delta.getOptionId())
+                        .voteId(delta.getVoteId())
+                        .responseCount(delta.getDelta())
+                        .build());
+                log.debug("옵션 집계 행 생성 - optionId: {}, responseCount: {}", delta.getOptionId(), delta.getDelta());
+            }
+        }
+    }
+
+    /**
+     * 여러 투표의 옵션별 집계 행을 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 집계 행 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VoteOptionTally> getTallies(Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return voteOptionTallyRepository.findByVoteIdIn(voteIds);
+    }
+
+    @Transactional(readOnly = true)
+    public Long getOptionResponseCount(UUID optionId) {
+        return voteOptionTallyRepository.findById(optionId)
+                .map(VoteOptionTally::getResponseCount)
+                .orElse(0L);
+    }
+
+    /**
+     * 투표 중 종료된 투표의 ID를 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 종료된 투표 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public Set<UUID> findClosedVoteIds(Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return Set.of();
+        }
+        return voteRepository.findAllById(voteIds).stream()
+                .filter(vote -> vote.getStatus() == Vote.Status.CLOSED)
+                .map(Vote::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 투표 한 페이지 분량의 집계를 원본 응답 데이터로 다시 계산해 어긋난 값을 교정합니다.
+     *
+     * 메모리 카운터가 관리 중인 투표는 카운터가 집계 테이블을 갱신하므로 교정 대상에서 제외합니다.
+     * closedOnly이면 종료된 투표만 교정합니다. 투표 상태와 응답 수는 같은 트랜잭션의 일관된 읽기로 조회하므로,
+     * 교정 도중 재개된 투표의 새 응답은 응답 수에 포함되지 않고 카운터 기록으로만 더해집니다.
+     *
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param excludedVoteIds 교정에서 제외할 투표 ID 목록
+     * @param closedOnly 종료된 투표만 교정할지 여부
+     * @return 다음 페이지 존재 여부
+     */
+    public boolean reconcilePage(int page, int size, Set<UUID> excludedVoteIds, boolean closedOnly) {
+        Slice<Vote> votes = voteRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+        List<UUID> voteIds = votes.getContent().stream()
+                .filter(vote -> !closedOnly || vote.getStatus() == Vote.Status.CLOSED)
+                .map(Vote::getId)
+                .filter(voteId -> !excludedVoteIds.contains(voteId))
+                .toList();
+        if (voteIds.isEmpty()) {
+            return votes.hasNext();
+        }
+
+        Map<UUID, Long> actualCounts = voteResponseRepository.countByVoteIdsGroupByOption(voteIds).stream()
+                .collect(Collectors.toMap(OptionResponseCount::getOptionId, OptionResponseCount::getResponseCount));
+        Map<UUID, VoteOptionTally> tallies = voteOptionTallyRepository.findByVoteIdIn(voteIds).stream()
+                .collect(Collectors.toMap(VoteOptionTally::getOptionId, tally -> tally));
+
+        int corrected = 0;
+        for (Option option : optionRepository.findByVoteIdIn(voteIds)) {
+            long actualCount = actualCounts.getOrDefault(option.getId(), 0L);
+            VoteOptionTally tally = tallies.get(option.getId());
+
+            if (tally == null) {
+                voteOptionTallyRepository.save(VoteOptionTally.builder()
+                        .optionId(option.getId())
+                        .voteId(option.getVote().getId())
+                        .responseCount(actualCount)
+                        .build());
+                corrected++;
+            } else if (tally.getResponseCount() != actualCount
+                    && voteOptionTallyRepository.correctResponseCount(option.getId(), tally.getResponseCount(), actualCount) > 0) {
+                log.warn("옵션 집계 불일치 교정 - optionId: {}, 집계: {}, 실제: {}",
+                        option.getId(), tally.getResponseCount(), actualCount);
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("옵션 집계 교정 완료 - page: {}, 교정된 옵션 수: {}", page, corrected);
+        }
+        return votes.hasNext();
+    }
+}
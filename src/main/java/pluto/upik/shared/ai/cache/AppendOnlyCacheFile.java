@@ -0,0 +1,228 @@
+package pluto.upik.shared.ai.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 추가 전용 파일 캐시
+ * 항목을 [키 32바이트][만료 시각 8바이트][값 길이 4바이트][값] 형식으로 파일 끝에 이어 쓰고, 위치만 메모리 색인으로 유지합니다.
+ * 시작 시 파일을 한 번 읽어 색인을 복구하므로 재시작 후에도 캐시가 유지되며,
+ * 기록 도중 중단되어 끝이 잘린 항목은 버립니다.
+ * 파일이 최대 크기를 넘으면 만료된 항목과 오래 전에 기록된 항목을 버리고 새 파일로 압축합니다.
+ */
+public class AppendOnlyCacheFile implements Closeable {
+
+    private static final int KEY_LENGTH = 32;
+    private static final int HEADER_LENGTH = KEY_LENGTH + Long.BYTES + Integer.BYTES;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path path;
+    private final long maxBytes;
+    // 기록 순서로 정렬된 색인 (압축 시 앞쪽부터 버립니다)
+    private final LinkedHashMap<String, Slot> index = new LinkedHashMap<>();
+    private RandomAccessFile file;
+
+    /**
+     * @param path 캐시 파일 경로
+     * @param maxBytes 파일 최대 크기
+     */
+    public AppendOnlyCacheFile(Path path, long maxBytes) throws IOException {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.file = new RandomAccessFile(path.toFile(), "rw");
+        load(System.currentTimeMillis());
+    }
+
+    /**
+     * 만료되지 않은 값을 조회합니다.
+     *
+     * @param key SHA-256 키 (16진수)
+     * @param now 기준 시각 (epoch millis)
+     */
+    public synchronized Optional<Hit> get(String key, long now) throws IOException {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        if (slot.expiresAt <= now) {
+            index.remove(key);
+            return Optional.empty();
+        }
+
+        byte[] value = new byte[slot.length];
+        file.seek(slot.offset + HEADER_LENGTH);
+        file.readFully(value);
+        return Optional.of(new Hit(new String(value, StandardCharsets.UTF_8), slot.expiresAt));
+    }
+
+    /**
+     * 값을 파일 끝에 기록합니다.
+     *
+     * @param key SHA-256 키 (16진수)
+     * @param value 값
+     * @param expiresAt 만료 시각 (epoch millis)
+     * @param now 기준 시각 (epoch millis)
+     */
+    public synchronized void put(String key, String value, long expiresAt, long now) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long offset = file.length();
+        writeRecord(file, offset, key, expiresAt, bytes);
+        index.remove(key);
+        index.put(key, new Slot(offset, bytes.length, expiresAt));
+
+        if (file.length() > maxBytes) {
+            compact(now);
+        }
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized long sizeBytes() throws IOException {
+        return file.length();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        file.close();
+    }
+
+    private void load(long now) throws IOException {
+        long length = file.length();
+        long offset = 0;
+        byte[] key = new byte[KEY_LENGTH];
+        while (offset + HEADER_LENGTH <= length) {
+            file.seek(offset);
+            file.readFully(key);
+            long expiresAt = file.readLong();
+            int valueLength = file.readInt();
+            if (valueLength < 0 || offset + HEADER_LENGTH + valueLength > length) {
+                break;
+            }
+
+            String hexKey = HEX.formatHex(key);
+            index.remove(hexKey);
+            if (expiresAt > now) {
+                index.put(hexKey, new Slot(offset, valueLength, expiresAt));
+            }
+            offset += HEADER_LENGTH + valueLength;
+        }
+
+        // 기록 도중 끊긴 마지막 항목은 잘라냅니다.
+        if (offset < length) {
+            file.setLength(offset);
+        }
+    }
+
+    /**
+     * 살아 있는 항목만 새 파일로 옮깁니다.
+     * 옮긴 뒤에도 최대 크기의 3/4을 넘으면 오래 전에 기록된 항목부터 버립니다.
+     */
+    private void compact(long now) throws IOException {
+        List<Map.Entry<String, Slot>> live = new ArrayList<>();
+        long liveBytes = 0;
+        for (Map.Entry<String, Slot> entry : index.entrySet()) {
+            if (entry.getValue().expiresAt > now) {
+                live.add(entry);
+                liveBytes += HEADER_LENGTH + entry.getValue().length;
+            }
+        }
+
+        long targetBytes = maxBytes / 4 * 3;
+        Iterator<Map.Entry<String, Slot>> oldest = live.iterator();
+        while (liveBytes > targetBytes && oldest.hasNext()) {
+            liveBytes -= HEADER_LENGTH + oldest.next().getValue().length;
+            oldest.remove();
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        LinkedHashMap<String, Slot> newIndex = new LinkedHashMap<>();
+        try (RandomAccessFile target = new RandomAccessFile(compacted.toFile(), "rw")) {
+            target.setLength(0);
+            long offset = 0;
+            for (Map.Entry<String, Slot> entry : live) {
+                Slot slot = entry.getValue();
+                byte[] value = new byte[slot.length];
+                file.seek(slot.offset + HEADER_LENGTH);
+                file.readFully(value);
+                writeRecord(target, offset, entry.getKey(), slot.expiresAt, value);
+                newIndex.put(entry.getKey(), new Slot(offset, slot.length, slot.expiresAt));
+                offset += HEADER_LENGTH + slot.length;
+            }
+        }
+
+        file.close();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        file = new RandomAccessFile(path.toFile(), "rw");
+        index.clear();
+        index.putAll(newIndex);
+    }
+
+    private static void writeRecord(RandomAccessFile target, long offset, String key, long expiresAt,
+                                    byte[] value) throws IOException {
+        byte[] record = new byte[HEADER_LENGTH + value.length];
+        System.arraycopy(HEX.parseHex(key), 0, record, 0, KEY_LENGTH);
+        for (int i = 0; i < Long.BYTES; i++) {
+            record[KEY_LENGTH + i] = (byte) (expiresAt >>> (56 - 8 * i));
+        }
+        for (int i = 0; i < Integer.BYTES; i++) {
+            record[KEY_LENGTH + Long.BYTES + i] = (byte) (value.length >>> (24 - 8 * i));
+        }
+        System.arraycopy(value, 0, record, HEADER_LENGTH, value.length);
+
+        target.seek(offset);
+        target.write(record);
+    }
+
+    /**
+     * 조회된 값과 만료 시각
+     */
+    public static final class Hit {
+        private final String value;
+        private final long expiresAt;
+
+        private Hit(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+
+    /**
+     * 파일 안에서 항목의 위치
+     */
+    private static final class Slot {
+        private final long offset;
+        private final int length;
+        private final long expiresAt;
+
+        private Slot(long offset, int length, long expiresAt) {
+            this.offset = offset;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package pluto.upik.shared.ai.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * LLM 응답 캐시
+ * 모델, 옵션, 프롬프트의 SHA-256 해시를 키로 응답을 저장합니다.
+ * 최근 사용 순으로 제한된 힙 LRU를 먼저 보고, 없으면 재시작 후에도 남는 파일 캐시를 봅니다.
+ * 같은 키의 요청이 동시에 들어오면 한 요청만 Ollama를 호출하고 나머지는 그 결과를 기다리므로,
+ * TTL 안에서 같은 프롬프트로 Ollama를 두 번 호출하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LlmResponseCache {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.ai.ollama.chat.options.model:}")
+    private String model;
+
+    @Value("${spring.ai.ollama.chat.options.temperature:}")
+    private String temperature;
+
+    @Value("${upik.ai.cache.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${upik.ai.cache.heap-max-entries:500}")
+    private int heapMaxEntries;
+
+    @Value("${upik.ai.cache.disk-path:./data/llm-cache.log}")
+    private String diskPath;
+
+    @Value("${upik.ai.cache.disk-max-bytes:67108864}")
+    private long diskMaxBytes;
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private Map<String, HeapEntry> heap;
+    private AppendOnlyCacheFile disk;
+    private Counter heapHits;
+    private Counter diskHits;
+    private Counter coalesced;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        heap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HeapEntry> eldest) {
+                return size() > heapMaxEntries;
+            }
+        };
+
+        try {
+            disk = new AppendOnlyCacheFile(Path.of(diskPath), diskMaxBytes);
+            log.info("LLM 응답 파일 캐시 적재 완료 - 경로: {}, 항목 수: {}", diskPath, disk.size());
+        } catch (IOException e) {
+            log.warn("LLM 응답 파일 캐시를 열 수 없어 힙 캐시만 사용합니다 - 경로: {}", diskPath, e);
+        }
+
+        heapHits = requestCounter("heap_hit");
+        diskHits = requestCounter("disk_hit");
+        coalesced = requestCounter("coalesced");
+        misses = requestCounter("miss");
+        Gauge.builder("upik.ai.cache.heap.entries", this, LlmResponseCache::heapSize)
+                .description("힙 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("upik.ai.cache.disk.entries", this, cache -> cache.disk != null ? cache.disk.size() : 0)
+                .description("파일 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader로 한 번만 생성해 저장합니다.
+     * 비어 있는 응답은 저장하지 않으며, loader의 예외는 기다리던 요청에도 그대로 전달됩니다.
+     *
+     * @param prompt 프롬프트
+     * @param loader 캐시에 없을 때 응답을 생성하는 함수
+     * @return 응답
+     */
+    public String getOrCompute(String prompt, Supplier<String> loader) {
+        return getOrCompute(prompt, loader, response -> true);
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader로 한 번만 생성합니다.
+     * 생성한 응답은 cacheable을 통과할 때만 저장하므로, 호출한 쪽이 읽을 수 없는 응답은 다음 요청에서 다시 생성됩니다.
+     * 함께 기다리던 요청에는 저장 여부와 관계없이 생성한 응답이 전달됩니다.
+     *
+     * @param prompt 프롬프트
+     * @param loader 캐시에 없을 때 응답을 생성하는 함수
+     * @param cacheable 생성한 응답을 저장해도 되는지 검사하는 함수
+     * @return 응답
+     */
+    public String getOrCompute(String prompt, Supplier<String> loader, Predicate<String> cacheable) {
+        String key = keyOf(prompt);
+        Optional<String> cached = lookup(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<String> own = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            // 등록 직전에 다른 요청이 저장을 끝냈을 수 있으므로 한 번 더 확인합니다.
+            String value = lookup(key).orElse(null);
+            if (value == null) {
+                misses.increment();
+                value = loader.get();
+                if (value != null && cacheable.test(value)) {
+                    put(key, value);
+                }
+            }
+            own.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다. (스트리밍 응답처럼 getOrCompute를 쓸 수 없는 경우)
+     */
+    public Optional<String> get(String prompt) {
+        Optional<String> cached = lookup(keyOf(prompt));
+        if (cached.isEmpty()) {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * 응답을 저장합니다. (스트리밍 응답처럼 getOrCompute를 쓸 수 없는 경우)
+     * 호출한 쪽이 응답을 끝까지 읽고 검증한 뒤에 저장해야 합니다.
+     * 캐시에서 다시 받은 응답을 그대로 저장하는 경우에는 파일에 중복 기록하지 않습니다.
+     */
+    public void put(String prompt, String response) {
+        String key = keyOf(prompt);
+        if (response != null && lookupHeap(key).filter(response::equals).isPresent()) {
+            return;
+        }
+        put(key, response);
+    }
+
+    private Optional<String> lookup(String key) {
+        long now = System.currentTimeMillis();
+        Optional<String> cached = lookupHeap(key);
+        if (cached.isPresent()) {
+            heapHits.increment();
+            return cached;
+        }
+
+        if (disk == null) {
+            return Optional.empty();
+        }
+        try {
+            Optional<AppendOnlyCacheFile.Hit> hit = disk.get(key, now);
+            hit.ifPresent(found -> {
+                diskHits.increment();
+                putHeap(key, found.getValue(), found.getExpiresAt());
+            });
+            return hit.map(AppendOnlyCacheFile.Hit::getValue);
+        } catch (IOException e) {
+            log.warn("LLM 응답 파일 캐시 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<String> lookupHeap(String key) {
+        synchronized (heap) {
+            HeapEntry entry = heap.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                return Optional.of(entry.value);
+            }
+            heap.remove(key);
+            return Optional.empty();
+        }
+    }
+
+    private void put(String key, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMs;
+        putHeap(key, value, expiresAt);
+        if (disk != null) {
+            try {
+                disk.put(key, value, expiresAt, now);
+            } catch (IOException e) {
+                log.warn("LLM 응답 파일 캐시 기록 실패", e);
+            }
+        }
+    }
+
+    private void putHeap(String key, String value, long expiresAt) {
+        synchronized (heap) {
+            heap.put(key, new HeapEntry(value, expiresAt));
+        }
+    }
+
+    private int heapSize() {
+        synchronized (heap) {
+            return heap.size();
+        }
+    }
+
+    private String keyOf(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(("model=" + model + ";temperature=" + temperature + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HEX.formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("upik.ai.cache.requests")
+                .description("LLM 응답 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 힙 캐시 항목
+     */
+    private static final class HeapEntry {
+        private final String value;
+        private final long expiresAt;
+
+        private HeapEntry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
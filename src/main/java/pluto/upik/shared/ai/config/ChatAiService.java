@@ -1,20 +1,90 @@
 package pluto.upik.shared.ai.config;
 
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.ollama.api.OllamaOptions;
 import org.springframework.stereotype.Service;
+import pluto.upik.shared.ai.cache.LlmResponseCache;
+import pluto.upik.shared.ai.service.AiCallScheduler;
+import pluto.upik.shared.ai.service.StructuredOutput;
 import reactor.core.publisher.Flux;
 
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 @Service
 public class ChatAiService {
     private final ChatClient chatClient;
-    public ChatAiService(ChatClient.Builder chatClientBuilder) {
+    private final LlmResponseCache responseCache;
+    private final AiCallScheduler callScheduler;
+    public ChatAiService(ChatClient.Builder chatClientBuilder, LlmResponseCache responseCache, AiCallScheduler callScheduler) {
         this.chatClient = chatClientBuilder.build();
+        this.responseCache = responseCache;
+        this.callScheduler = callScheduler;
     }
     public String askToDeepSeekAI(String question){
-        return chatClient.prompt(question)
-                .call().content();
+        return askToDeepSeekAI(question, AiCallScheduler.Lane.INTERACTIVE);
+    }
+    public String askToDeepSeekAI(String question, AiCallScheduler.Lane lane){
+        return askToDeepSeekAI(question, lane, response -> true);
+    }
+    public String askToDeepSeekAI(String question, AiCallScheduler.Lane lane, Predicate<String> cacheable){
+        // 캐시 적중은 스케줄러를 거치지 않고, 실제 Ollama 호출만 레인의 실행 허가를 받습니다.
+        // 호출한 쪽이 읽을 수 없는 응답(cacheable 실패)은 저장하지 않아 다음 요청에서 다시 생성됩니다.
+        // 차단형 HTTP 호출은 인터럽트해도 끊기지 않으므로 스트리밍으로 받아 모읍니다.
+        // 호출한 스레드가 제한 시간 초과로 인터럽트되면 block()이 구독을 해제해 Ollama 연결과 실행 허가가 바로 반납됩니다.
+        return responseCache.getOrCompute(question, () -> callScheduler.stream(lane,
+                        () -> chatClient.prompt(question).stream().content())
+                .collect(Collectors.joining())
+                .block(), cacheable);
     }
     public Flux<String> askToDeepSeekAiWithStream(String quest){
-        return chatClient.prompt(quest).stream().content();
+        return askToDeepSeekAiWithStream(quest, AiCallScheduler.Lane.INTERACTIVE);
+    }
+    public Flux<String> askToDeepSeekAiWithStream(String quest, AiCallScheduler.Lane lane){
+        return askToDeepSeekAiWithStream(quest, lane, true);
+    }
+    public Flux<String> askToDeepSeekAiWithStream(String quest, AiCallScheduler.Lane lane, boolean useCache){
+        // 캐시된 응답은 한 조각으로 바로 내보냅니다. 새 응답은 호출한 쪽이 검증한 뒤 cacheResponse로 저장합니다.
+        // 실패한 작업을 재시도할 때는 useCache=false로 캐시를 건너뛰어 같은 응답을 다시 받지 않게 합니다.
+        if (useCache) {
+            Optional<String> cached = responseCache.get(quest);
+            if (cached.isPresent()) {
+                return Flux.just(cached.get());
+            }
+        }
+        return callScheduler.stream(lane, () -> chatClient.prompt(quest).stream().content());
+    }
+    public Flux<String> askForJsonWithStream(String quest, StructuredOutput<?> output, AiCallScheduler.Lane lane){
+        return askForJsonWithStream(quest, output, lane, true);
+    }
+    public Flux<String> askForJsonWithStream(String quest, StructuredOutput<?> output, AiCallScheduler.Lane lane, boolean useCache){
+        // Ollama의 format에 JSON 스키마를 넘겨 스키마를 따르는 JSON만 생성하게 합니다.
+        // 새 응답은 StructuredJsonReader.finish()로 검증한 뒤 cacheJsonResponse로 저장해야 합니다.
+        if (useCache) {
+            Optional<String> cached = responseCache.get(jsonCacheKey(quest, output));
+            if (cached.isPresent()) {
+                return Flux.just(cached.get());
+            }
+        }
+        return callScheduler.stream(lane, () -> chatClient.prompt(quest)
+                .options(OllamaOptions.builder().format(output.getSchema()).build())
+                .stream().content());
+    }
+    public void cacheResponse(String quest, String response){
+        responseCache.put(quest, response);
+    }
+    public void cacheJsonResponse(String quest, StructuredOutput<?> output, String response){
+        responseCache.put(jsonCacheKey(quest, output), response);
+    }
+    private static String jsonCacheKey(String quest, StructuredOutput<?> output){
+        // 같은 프롬프트라도 스키마가 다르면 다른 응답이므로 캐시 키에 출력 이름을 포함합니다.
+        return quest + "\n#format=" + output.getName();
+    }
+    public void warmUp(String prompt, String keepAlive){
+        // 모델 적재만이 목적이므로 캐시를 거치지 않고 한 토큰만 생성하며, 유휴 후에도 모델이 남도록 keep_alive를 함께 보냅니다.
+        callScheduler.call(AiCallScheduler.Lane.BACKGROUND, () -> chatClient.prompt(prompt)
+                .options(OllamaOptions.builder().numPredict(1).keepAlive(keepAlive).build())
+                .call().content());
     }
 }
@@ -0,0 +1,16 @@
+package pluto.upik.shared.ai.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI가 생성하고 한국어로 번역한 가이드 초안
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideDraftDTO {
+    private String title;
+    private String content;
+}
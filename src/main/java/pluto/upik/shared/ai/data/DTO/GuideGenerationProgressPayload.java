@@ -0,0 +1,46 @@
+package pluto.upik.shared.ai.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pluto.upik.shared.ai.service.GuideStreamParser;
+
+import java.util.UUID;
+
+/**
+ * 가이드 생성 진행 상황 구독으로 전달되는 이벤트
+ * GENERATING 단계의 delta는 생성 중인 영어 원문 조각이고, COMPLETED 단계의 title/content는 번역된 최종 가이드입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class GuideGenerationProgressPayload {
+    private final UUID voteId;
+    private final Stage stage;
+    private final GuideStreamParser.Section section;
+    private final String delta;
+    private final String title;
+    private final String content;
+    private final String message;
+
+    /**
+     * 가이드 생성 단계
+     */
+    public enum Stage {
+        STARTED, THINKING, GENERATING, TRANSLATING, COMPLETED, FAILED
+    }
+
+    public static GuideGenerationProgressPayload of(UUID voteId, Stage stage) {
+        return new GuideGenerationProgressPayload(voteId, stage, null, null, null, null, null);
+    }
+
+    public static GuideGenerationProgressPayload delta(UUID voteId, GuideStreamParser.Section section, String delta) {
+        return new GuideGenerationProgressPayload(voteId, Stage.GENERATING, section, delta, null, null, null);
+    }
+
+    public static GuideGenerationProgressPayload completed(UUID voteId, String title, String content) {
+        return new GuideGenerationProgressPayload(voteId, Stage.COMPLETED, null, null, title, content, null);
+    }
+
+    public static GuideGenerationProgressPayload failed(UUID voteId, String message) {
+        return new GuideGenerationProgressPayload(voteId, Stage.FAILED, null, null, null, null, message);
+    }
+}
@@ -0,0 +1,177 @@
+package pluto.upik.shared.ai.data.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업 엔티티
+ * 투표 종료와 같은 트랜잭션에서 기록되는 아웃박스 행으로, 워커가 점유해 AI 가이드 생성을 수행합니다.
+ * 워커가 작업 도중 중단되어도 점유 만료 시각(lockedUntil)이 지나면 다른 워커가 다시 점유할 수 있습니다.
+ */
+@Entity
+@Table(name = "guide_generation_job", indexes = {
+        @Index(name = "idx_guide_generation_job_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GuideGenerationJob {
+
+    /**
+     * 작업 ID (기본 키)
+     */
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    /**
+     * 가이드를 생성할 투표 ID (투표당 작업 하나)
+     */
+    @Column(name = "vote_id", columnDefinition = "uuid", nullable = false, unique = true)
+    private UUID voteId;
+
+    /**
+     * 생성할 가이드 타입
+     */
+    @Column(name = "guide_type", length = 50)
+    private String guideType;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "enum ('PENDING', 'RUNNING', 'DONE', 'FAILED')", nullable = false)
+    private Status status;
+
+    /**
+     * 지금까지 점유된 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 가능 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 점유 만료 시각 (RUNNING 상태에서만 의미가 있습니다)
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * 생성 일시
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 작업 상태 열거형
+     */
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    /**
+     * 새 작업을 생성합니다.
+     */
+    public static GuideGenerationJob pending(UUID voteId, String guideType, LocalDateTime now) {
+        return GuideGenerationJob.builder()
+                .id(UUID.randomUUID())
+                .voteId(voteId)
+                .guideType(guideType)
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 다시 열렸다가 종료된 투표의 가이드를 새로 만들도록 작업을 처음 상태로 되돌립니다.
+     */
+    public void requeue(String guideType, LocalDateTime now) {
+        this.guideType = guideType;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 워커가 작업을 점유합니다.
+     */
+    public void claim(LocalDateTime lockedUntil) {
+        this.status = Status.RUNNING;
+        this.attempts++;
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * 점유했을 때 받은 작업과 같은 점유 회차로 아직 실행 중인지 확인합니다.
+     * 점유가 만료되어 다른 워커가 다시 점유했거나 이미 끝난 작업이면 시도 횟수, 점유 만료 시각, 상태 중 하나가 다릅니다.
+     *
+     * @param claimed 점유 시 받은 작업
+     */
+    public boolean isClaimedBy(GuideGenerationJob claimed) {
+        return status == Status.RUNNING
+                && attempts == claimed.attempts
+                && Objects.equals(lockedUntil, claimed.lockedUntil);
+    }
+
+    /**
+     * 실행하지 못한 점유를 풀어 시도 횟수를 늘리지 않고 대기 상태로 되돌립니다.
+     */
+    public void release(LocalDateTime nextAttemptAt) {
+        this.status = Status.PENDING;
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+    }
+
+    /**
+     * 작업을 완료 처리합니다.
+     */
+    public void complete() {
+        this.status = Status.DONE;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 지정한 시각 이후에 다시 시도하도록 되돌립니다.
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = Status.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = error;
+    }
+
+    /**
+     * 더 이상 재시도하지 않도록 실패 처리합니다.
+     */
+    public void fail(String error) {
+        this.status = Status.FAILED;
+        this.lockedUntil = null;
+        this.lastError = error;
+    }
+}
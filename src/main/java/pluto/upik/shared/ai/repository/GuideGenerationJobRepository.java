@@ -0,0 +1,48 @@
+package pluto.upik.shared.ai.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업 레포지토리
+ */
+public interface GuideGenerationJobRepository extends JpaRepository<GuideGenerationJob, UUID> {
+
+    List<GuideGenerationJob> findByVoteIdIn(Collection<UUID> voteIds);
+
+    /**
+     * 작업을 행 잠금과 함께 조회합니다.
+     * 점유 만료로 같은 작업을 두 워커가 실행했더라도 현재 점유한 워커만 결과를 반영하게 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM GuideGenerationJob j WHERE j.id = :id")
+    Optional<GuideGenerationJob> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * 실행 가능한 작업을 행 잠금과 함께 조회합니다.
+     * 다른 워커가 잠근 행은 기다리지 않고 건너뛰므로 여러 인스턴스가 같은 작업을 동시에 점유하지 않습니다.
+     * 재시도 시각이 된 PENDING 작업과 점유 만료 시각이 지난 RUNNING 작업이 대상입니다.
+     * SKIP LOCKED는 MariaDB 10.6 이상에서 지원되며, 테이블 DDL은 db/schema/guide_generation_job.sql에 있습니다.
+     *
+     * @param now 기준 시각
+     * @param limit 최대 개수
+     * @return 잠긴 작업 목록
+     */
+    @Query(value = "SELECT * FROM guide_generation_job " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "OR (status = 'RUNNING' AND locked_until < :now) " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<GuideGenerationJob> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -5,7 +5,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
-import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.shared.ai.service.GuideGenerationJobService;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,7 +13,7 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class AIApplication {
-    private final AIService aiService;
+    private final GuideGenerationJobService guideGenerationJobService;
     private final VoteRepository voteRepository;
 
     // 매일 밤 12시에 실행
@@ -22,8 +22,7 @@ public class AIApplication {
         // 오늘 이전에 끝났고 상태가 OPEN인 투표만 조회
         List<Vote> expiredVotes = voteRepository.findFinishedVotesWithoutGuide(LocalDate.now());
 
-        for (Vote vote : expiredVotes) {
-            aiService.generateAndSaveGuide(vote.getId(), vote.getCategory()); // 필요시 타입 지정
-        }
+        // 종료 스케줄러가 놓친 투표를 종료하고 가이드 생성 작업으로 넘깁니다.
+        guideGenerationJobService.closeAndEnqueue(expiredVotes.stream().map(Vote::getId).toList());
     }
 }
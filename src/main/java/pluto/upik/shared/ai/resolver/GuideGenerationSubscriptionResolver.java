@@ -0,0 +1,23 @@
+package pluto.upik.shared.ai.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.shared.ai.data.DTO.GuideGenerationProgressPayload;
+import pluto.upik.shared.ai.service.GuideGenerationProgressBroadcaster;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+public class GuideGenerationSubscriptionResolver {
+
+    private final GuideGenerationProgressBroadcaster progressBroadcaster;
+
+    @SubscriptionMapping
+    public Flux<GuideGenerationProgressPayload> guideGenerationProgress(@Argument UUID voteId) {
+        return progressBroadcaster.subscribe(voteId);
+    }
+}
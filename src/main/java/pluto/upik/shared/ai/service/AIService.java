@@ -1,49 +1,79 @@
 package pluto.upik.shared.ai.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pluto.upik.domain.guide.data.model.Guide;
-import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.tail.data.model.Tail;
 import pluto.upik.domain.tail.repository.TailRepository;
 import pluto.upik.domain.tail.repository.TailResponseRepository;
-import pluto.upik.domain.user.repository.UserRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
 import pluto.upik.shared.ai.config.ChatAiService;
-import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
+import pluto.upik.shared.ai.data.DTO.GuideDraftDTO;
+import pluto.upik.shared.ai.data.DTO.GuideGenerationProgressPayload;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 import pluto.upik.shared.translation.service.TranslationService;
 
-import java.time.LocalDate;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AIService {
     private static final int MAX_CHUNK_SIZE = 450;
+    private static final StructuredOutput<GuideDraftDTO> GUIDE_OUTPUT = new StructuredOutput<>(
+            "guide", StructuredOutput.stringObjectSchema("title", "content"), GuideDraftDTO.class);
+    private static final String STRUCTURED_GUIDE_INSTRUCTION =
+            "\n\nRespond ONLY with a JSON object of the form {\"title\": \"...\", \"content\": \"...\"}.";
 
     private final TranslationService translationService;
-    private final UserRepository userRepository;
     private final VoteRepository voteRepository;
     private final VoteResponseRepository voteResponseRepository;
     private final OptionRepository optionRepository;
     private final TailRepository tailRepository;
     private final TailResponseRepository tailResponseRepository;
     private final ChatAiService chatAiService;
-    private final GuideRepository guideRepository;
+    private final GuideGenerationProgressBroadcaster progressBroadcaster;
+    private final ObjectMapper objectMapper;
 
-    private String removeThinkTags(String response) {
-        if (response == null) return null;
-        return response.replaceAll("(?is)<think>.*?</think>", "").trim();
+    @Value("${upik.ai.structured-output.enabled:false}")
+    private boolean structuredOutputEnabled;
+
+    @Value("${upik.ai.guide-job.stream-timeout-ms:300000}")
+    private long streamTimeoutMs;
+
+    @Value("${upik.translation.max-concurrency:4}")
+    private int translationMaxConcurrency;
+
+    private final ExecutorService translationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore translationPermits;
+
+    @PostConstruct
+    public void init() {
+        translationPermits = new Semaphore(translationMaxConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        translationExecutor.shutdownNow();
     }
 
     private List<String> splitTextIntoChunks(String text) {
@@ -68,139 +98,241 @@ public class AIService {
         return chunks;
     }
 
+    /**
+     * 긴 텍스트를 문장 단위 조각으로 나눠 병렬로 번역하고 원래 순서대로 합칩니다.
+     * 조각마다 가상 스레드에서 번역하되 동시 번역 요청 수는 세마포어로 제한하므로,
+     * 전체 지연 시간은 조각 수의 합이 아니라 대략 조각 하나의 왕복 시간이 됩니다.
+     * 번역에 실패한 조각은 원문을 그대로 사용합니다.
+     */
     private String translateLongText(String text, boolean koreanToEnglish) {
         List<String> chunks = splitTextIntoChunks(text);
-        StringBuilder translatedText = new StringBuilder();
+        if (chunks.size() <= 1) {
+            return chunks.isEmpty() ? "" : translateChunk(chunks.get(0), koreanToEnglish);
+        }
 
+        List<Future<String>> futures = new ArrayList<>(chunks.size());
         for (String chunk : chunks) {
-            String translatedChunk = koreanToEnglish
-                    ? translationService.translateKoreanToEnglish(chunk)
-                    : translationService.translateEnglishToKorean(chunk);
-            translatedText.append(translatedChunk).append(" ");
+            futures.add(translationExecutor.submit(() -> translateChunkWithPermit(chunk, koreanToEnglish)));
+        }
+
+        StringBuilder translatedText = new StringBuilder();
+        for (int i = 0; i < chunks.size(); i++) {
+            translatedText.append(awaitChunk(futures.get(i), chunks.get(i))).append(" ");
         }
 
         return translatedText.toString().trim();
     }
 
-    private String askToDeepSeekAI(String question) {
+    private String translateChunkWithPermit(String chunk, boolean koreanToEnglish) throws InterruptedException {
+        translationPermits.acquire();
         try {
-            String translatedQuestion = translateLongText(question, true);
-            String englishResponse = chatAiService.askToDeepSeekAI(translatedQuestion);
-            return removeThinkTags(englishResponse);
-        } catch (Exception e) {
-            log.error("AI 서비스 호출 중 오류: {}", e.getMessage(), e);
-            throw new BusinessException("AI 서비스 호출 중 오류가 발생했습니다.");
+            return translateChunk(chunk, koreanToEnglish);
+        } finally {
+            translationPermits.release();
         }
     }
 
-    @Transactional
-    public GuideResponseDTO generateAndSaveGuide(UUID voteId, String type) {
+    private String translateChunk(String chunk, boolean koreanToEnglish) {
+        return koreanToEnglish
+                ? translationService.translateKoreanToEnglish(chunk)
+                : translationService.translateEnglishToKorean(chunk);
+    }
+
+    private String awaitChunk(Future<String> future, String chunk) {
         try {
-            Vote vote = voteRepository.findById(voteId)
-                    .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다."));
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("번역 조각 처리 중 오류 발생", e.getCause());
+            return chunk;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return chunk;
+        }
+    }
 
-            vote.setStatus(Vote.Status.valueOf("CLOSED"));
+    /**
+     * 투표 결과와 꼬리 질문 응답으로 가이드 생성 프롬프트를 만듭니다.
+     * DB 조회만 수행하므로 AI 호출 전에 짧은 읽기 전용 트랜잭션으로 끝납니다.
+     *
+     * @param voteId 투표 ID
+     * @param type 가이드 타입
+     * @return 가이드 생성 프롬프트 (한국어 원문)
+     */
+    @Transactional(readOnly = true)
+    public String buildGuidePrompt(UUID voteId, String type) {
+        Vote vote = voteRepository.findById(voteId)
+                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다."));
 
-            String voteTitle = vote.getQuestion();
-            String voteDescription = optionRepository.findTopByVoteOrderByIdAsc(vote)
-                    .map(Option::getContent)
-                    .orElse("No description");
+        String voteTitle = vote.getQuestion();
+        String voteDescription = optionRepository.findTopByVoteOrderByIdAsc(vote)
+                .map(Option::getContent)
+                .orElse("No description");
 
-            // voteId로 실제 투표 옵션 및 응답을 가져와서 퍼센트 계산
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            if (options == null || options.isEmpty()) {
-                throw new ResourceNotFoundException("투표 옵션이 존재하지 않습니다.");
-            }
-            List<VoteResponse> voteResponses = voteResponseRepository.findByVoteId(vote.getId());
+        // voteId로 실제 투표 옵션 및 응답을 가져와서 퍼센트 계산
+        List<Option> options = optionRepository.findByVoteId(vote.getId());
+        if (options == null || options.isEmpty()) {
+            throw new ResourceNotFoundException("투표 옵션이 존재하지 않습니다.");
+        }
+        List<VoteResponse> voteResponses = voteResponseRepository.findByVoteId(vote.getId());
 
-            Map<UUID, Long> voteCounts = new HashMap<>();
-            long totalVotes = voteResponses.size();
+        Map<UUID, Long> voteCounts = new HashMap<>();
+        long totalVotes = voteResponses.size();
 
-            for (VoteResponse vr : voteResponses) {
-                voteCounts.merge(vr.getSelectedOption().getId(), 1L, Long::sum);
-            }
+        for (VoteResponse vr : voteResponses) {
+            voteCounts.merge(vr.getSelectedOption().getId(), 1L, Long::sum);
+        }
 
-            StringBuilder optionPercentsBuilder = new StringBuilder();
-            for (Option option : options) {
-                long count = voteCounts.getOrDefault(option.getId(), 0L);
-                double percent = totalVotes > 0 ? (count * 100.0 / totalVotes) : 0.0;
-                optionPercentsBuilder
-                        .append(option.getContent())
-                        .append(" - ")
-                        .append(String.format("%.1f", percent))
-                        .append("%\n");
-            }
-            String optionsWithPercents = optionPercentsBuilder.toString().trim();
-
-            Tail tail = tailRepository.findFirstByVote(vote)
-                    .orElseThrow(() -> new ResourceNotFoundException("Tail 질문이 없습니다."));
-
-            List<String> tailAnswers = tailResponseRepository.findByTail(tail).stream()
-                    .map(tr -> tr.getAnswer())
-                    .toList();
-
-
-            String tailResponses = String.join("\n", tailAnswers);
-
-            String prompt = String.format(
-                    "Please generate a guide title and guide content for the following vote and responses. For each choice, don't put anything like \\ and just give it as plain text." +
-                            "<content> Don't wrap it up like this"+
-                            "The guide should be clear, informative, and in-depth.\n\n" +
-                            "Vote Title: %s\n" +
-                            "Option with the highest votes : %s\n" +
-                            "Voting Results (percentages):\n%s\n\n" +
-                            "Tail Question: %s\n" +
-                            "Tail Responses:\n%s\n\n" +
-                            "Write it like this :\n%s\n\n" +
-                            "Please return the result in the following format I will keep my word unconditionally:\n" +
-                            "Guide Title:\n<<title>>\n\n" +
-                            "Guide Content:\n<<content>>\n ",
-                    voteTitle, voteDescription, optionsWithPercents,
-                    tail.getQuestion(), tailResponses, type
-            );
+        StringBuilder optionPercentsBuilder = new StringBuilder();
+        for (Option option : options) {
+            long count = voteCounts.getOrDefault(option.getId(), 0L);
+            double percent = totalVotes > 0 ? (count * 100.0 / totalVotes) : 0.0;
+            optionPercentsBuilder
+                    .append(option.getContent())
+                    .append(" - ")
+                    .append(String.format("%.1f", percent))
+                    .append("%\n");
+        }
+        String optionsWithPercents = optionPercentsBuilder.toString().trim();
 
-            String result = askToDeepSeekAI(prompt);
-            int titleStart = result.indexOf("Guide Title:");
-            int contentStart = result.indexOf("Guide Content:");
+        Tail tail = tailRepository.findFirstByVote(vote)
+                .orElseThrow(() -> new ResourceNotFoundException("Tail 질문이 없습니다."));
 
-            if (titleStart == -1 || contentStart == -1) {
-                log.error("AI 응답 포맷이 예상과 다릅니다. result: {}", result);
-                throw new BusinessException("AI 응답 포맷이 예상과 다릅니다.");
-            }
+        List<String> tailAnswers = tailResponseRepository.findByTail(tail).stream()
+                .map(tr -> tr.getAnswer())
+                .toList();
+
+
+        String tailResponses = String.join("\n", tailAnswers);
+
+        return String.format(
+                "Please generate a guide title and guide content for the following vote and responses. For each choice, don't put anything like \\ and just give it as plain text." +
+                        "<content> Don't wrap it up like this"+
+                        "The guide should be clear, informative, and in-depth.\n\n" +
+                        "Vote Title: %s\n" +
+                        "Option with the highest votes : %s\n" +
+                        "Voting Results (percentages):\n%s\n\n" +
+                        "Tail Question: %s\n" +
+                        "Tail Responses:\n%s\n\n" +
+                        "Write it like this :\n%s\n\n" +
+                        "Please return the result in the following format I will keep my word unconditionally:\n" +
+                        "Guide Title:\n<<title>>\n\n" +
+                        "Guide Content:\n<<content>>\n ",
+                voteTitle, voteDescription, optionsWithPercents,
+                tail.getQuestion(), tailResponses, type
+        );
+    }
+
+    /**
+     * 프롬프트로 AI 가이드를 스트리밍 생성하고 제목과 내용을 한국어로 번역합니다.
+     * 토큰을 받는 대로 구간을 나눠 진행 상황 구독자에게 전달하므로, 전체 응답을 기다리지 않고 생성 과정을 볼 수 있습니다.
+     * 번역과 AI 호출에 수 초가 걸리므로 트랜잭션 밖에서 호출해야 합니다.
+     *
+     * @param voteId 투표 ID (진행 상황 구분용)
+     * @param prompt 가이드 생성 프롬프트
+     * @return 번역된 가이드 제목과 내용
+     */
+    public GuideDraftDTO generateGuideDraft(UUID voteId, String prompt) {
+        return generateGuideDraft(voteId, prompt, true);
+    }
+
+    /**
+     * 프롬프트로 AI 가이드를 생성합니다.
+     * 실패한 작업을 재시도할 때는 useCache=false로 호출해 LLM 응답 캐시를 건너뛰고 새로 생성합니다.
+     *
+     * @param voteId 투표 ID (진행 상황 구분용)
+     * @param prompt 가이드 생성 프롬프트
+     * @param useCache LLM 응답 캐시 사용 여부
+     * @return 번역된 가이드 제목과 내용
+     */
+    public GuideDraftDTO generateGuideDraft(UUID voteId, String prompt, boolean useCache) {
+        progressBroadcaster.publish(GuideGenerationProgressPayload.of(voteId, GuideGenerationProgressPayload.Stage.STARTED));
+        try {
+            String translatedPrompt = translateLongText(prompt, true);
+            GuideDraftDTO englishDraft = structuredOutputEnabled
+                    ? streamStructuredGuide(voteId, translatedPrompt, useCache)
+                    : streamGuide(voteId, translatedPrompt, useCache);
 
-            String extractedTitle = result.substring(titleStart + "Guide Title:".length(), contentStart).trim();
-            String extractedContent = result.substring(contentStart + "Guide Content:".length()).trim();
-
-            Guide guide = Guide.builder()
-                    .vote(vote)
-                    .title(translateLongText(extractedTitle, false))
-                    .content(translateLongText(extractedContent, false))
-                    .createdAt(LocalDate.now())
-                    .category(vote.getCategory())
-                    .guideType(type)
-                    .revoteCount(0L)
-                    .like(0L)
-                    .build();
-
-            guideRepository.save(guide);
-
-            // GuideResponseDTO 형식으로 반환
-            return GuideResponseDTO.builder()
-                    .id(guide.getId())
-                    .voteId(guide.getVote().getId())
-                    .title(guide.getTitle())
-                    .content(guide.getContent())
-                    .createdAt(guide.getCreatedAt())
-                    .category(guide.getCategory())
-                    .guideType(type)
-                    .revoteCount(guide.getRevoteCount())
-                    .like(guide.getLike())
-                    .build();
-        } catch (ResourceNotFoundException | BusinessException e) {
+            progressBroadcaster.publish(GuideGenerationProgressPayload.of(voteId, GuideGenerationProgressPayload.Stage.TRANSLATING));
+            GuideDraftDTO draft = new GuideDraftDTO(
+                    translateLongText(englishDraft.getTitle(), false),
+                    translateLongText(englishDraft.getContent(), false)
+            );
+            progressBroadcaster.publish(GuideGenerationProgressPayload.completed(voteId, draft.getTitle(), draft.getContent()));
+            return draft;
+        } catch (RejectedExecutionException e) {
+            // AI 호출 허가를 받지 못한 경우는 생성 실패가 아니므로 그대로 던져 작업 워커가 나중에 다시 실행하게 합니다.
+            throw e;
+        } catch (BusinessException e) {
+            progressBroadcaster.publish(GuideGenerationProgressPayload.failed(voteId, e.getMessage()));
             throw e;
         } catch (Exception e) {
             log.error("가이드 생성 중 알 수 없는 오류: {}", e.getMessage(), e);
+            progressBroadcaster.publish(GuideGenerationProgressPayload.failed(voteId, "가이드 생성 중 오류가 발생했습니다."));
             throw new BusinessException("가이드 생성 중 오류가 발생했습니다.");
         }
     }
+
+    /**
+     * "Guide Title:"/"Guide Content:" 형식의 응답을 스트리밍으로 받아 생성 중인 조각을 진행 상황으로 알립니다.
+     */
+    private GuideDraftDTO streamGuide(UUID voteId, String translatedPrompt, boolean useCache) {
+        GuideStreamParser parser = new GuideStreamParser(new GuideStreamParser.Listener() {
+            @Override
+            public void onThinking() {
+                progressBroadcaster.publish(GuideGenerationProgressPayload.of(voteId, GuideGenerationProgressPayload.Stage.THINKING));
+            }
+
+            @Override
+            public void onDelta(GuideStreamParser.Section section, String delta) {
+                progressBroadcaster.publish(GuideGenerationProgressPayload.delta(voteId, section, delta));
+            }
+        });
+
+        // 가이드 생성은 일괄 작업이므로 사용자 요청이 기다리지 않도록 BACKGROUND 레인으로 호출합니다.
+        StringBuilder response = new StringBuilder();
+        chatAiService.askToDeepSeekAiWithStream(translatedPrompt, AiCallScheduler.Lane.BACKGROUND, useCache)
+                .doOnNext(chunk -> {
+                    response.append(chunk);
+                    parser.feed(chunk);
+                })
+                .blockLast(Duration.ofMillis(streamTimeoutMs));
+        parser.finish();
+
+        if (!parser.isComplete()) {
+            log.error("AI 응답 포맷이 예상과 다릅니다. title: {}, content: {}", parser.getTitle(), parser.getContent());
+            throw new BusinessException("AI 응답 포맷이 예상과 다릅니다.");
+        }
+        // 제목과 내용을 모두 읽은 응답만 캐시해, 형식이 깨진 응답을 재시도에서 다시 받지 않게 합니다.
+        chatAiService.cacheResponse(translatedPrompt, response.toString());
+        return new GuideDraftDTO(parser.getTitle(), parser.getContent());
+    }
+
+    /**
+     * JSON 스키마로 형식을 고정한 응답을 스트리밍으로 받습니다.
+     * 스키마와 다른 응답은 첫 어긋난 토큰에서 중단되므로 형식 오류로 전체 생성을 기다리지 않습니다.
+     * 조각 단위 진행 상황 대신 생성 시작(GENERATING)만 알립니다.
+     */
+    private GuideDraftDTO streamStructuredGuide(UUID voteId, String translatedPrompt, boolean useCache) {
+        StructuredJsonReader<GuideDraftDTO> reader = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+        AtomicBoolean generating = new AtomicBoolean();
+        String structuredPrompt = translatedPrompt + STRUCTURED_GUIDE_INSTRUCTION;
+        StringBuilder response = new StringBuilder();
+        chatAiService.askForJsonWithStream(structuredPrompt, GUIDE_OUTPUT, AiCallScheduler.Lane.BACKGROUND, useCache)
+                .doOnNext(chunk -> {
+                    if (generating.compareAndSet(false, true)) {
+                        progressBroadcaster.publish(GuideGenerationProgressPayload.of(voteId, GuideGenerationProgressPayload.Stage.GENERATING));
+                    }
+                    response.append(chunk);
+                    reader.feed(chunk);
+                })
+                .blockLast(Duration.ofMillis(streamTimeoutMs));
+
+        GuideDraftDTO draft = reader.finish();
+        if (draft.getTitle().isBlank() || draft.getContent().isBlank()) {
+            throw new BusinessException("AI 응답 포맷이 예상과 다릅니다.");
+        }
+        chatAiService.cacheJsonResponse(structuredPrompt, GUIDE_OUTPUT, response.toString());
+        return draft;
+    }
 }
@@ -0,0 +1,250 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Ollama 호출 스케줄러
+ * 사용자가 응답을 기다리는 호출(INTERACTIVE)과 가이드 생성 같은 일괄 작업(BACKGROUND)을 별도 레인으로 나눠 실행 허가를 내줍니다.
+ * - 전체 동시 호출 수는 Ollama 동시 처리 수로 제한하고, 레인마다 따로 동시 호출 상한을 둡니다.
+ *   BACKGROUND 상한을 전체보다 작게 두면 나머지 슬롯은 항상 INTERACTIVE 몫으로 남습니다.
+ * - 슬롯이 비면 INTERACTIVE 대기자가 먼저 들어가고, BACKGROUND는 INTERACTIVE 대기자가 없을 때만 들어갑니다.
+ * - 레인마다 대기열 크기가 제한되어 있어 가득 차면 기다리지 않고 바로 RejectedExecutionException을 던지고,
+ *   최대 대기 시간을 넘긴 요청도 같은 예외로 거절합니다.
+ * 레인별 대기 시간과 호출 시간은 upik.ai.scheduler.queue-wait / upik.ai.scheduler.service-time 타이머로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiCallScheduler {
+
+    /**
+     * 호출 레인
+     */
+    public enum Lane {
+        INTERACTIVE, BACKGROUND
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${upik.ai.ollama.max-concurrency:2}")
+    private int maxConcurrency;
+
+    @Value("${upik.ai.scheduler.interactive.max-concurrency:2}")
+    private int interactiveMaxConcurrency;
+
+    @Value("${upik.ai.scheduler.interactive.queue-capacity:50}")
+    private int interactiveQueueCapacity;
+
+    @Value("${upik.ai.scheduler.background.max-concurrency:1}")
+    private int backgroundMaxConcurrency;
+
+    @Value("${upik.ai.scheduler.background.queue-capacity:10}")
+    private int backgroundQueueCapacity;
+
+    @Value("${upik.ai.scheduler.max-queue-wait-ms:30000}")
+    private long maxQueueWaitMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Lane, LaneState> lanes = new EnumMap<>(Lane.class);
+    private int totalActive;
+    private volatile long lastCompletedAt;
+
+    @PostConstruct
+    public void init() {
+        lanes.put(Lane.INTERACTIVE, new LaneState(Lane.INTERACTIVE,
+                Math.min(interactiveMaxConcurrency, maxConcurrency), interactiveQueueCapacity));
+        lanes.put(Lane.BACKGROUND, new LaneState(Lane.BACKGROUND,
+                Math.min(backgroundMaxConcurrency, maxConcurrency), backgroundQueueCapacity));
+        log.info("AI 호출 스케줄러 초기화 - 전체 동시 호출: {}, INTERACTIVE: {}, BACKGROUND: {}",
+                maxConcurrency, lanes.get(Lane.INTERACTIVE).maxConcurrency, lanes.get(Lane.BACKGROUND).maxConcurrency);
+    }
+
+    /**
+     * 실행 허가를 받은 뒤 호출을 실행합니다.
+     *
+     * @param lane 호출 레인
+     * @param call 실행할 호출
+     * @return 호출 결과
+     * @throws RejectedExecutionException 대기열이 가득 찼거나 최대 대기 시간을 넘긴 경우
+     */
+    public <T> T call(Lane lane, Supplier<T> call) {
+        LaneState state = acquire(lane);
+        long startedAt = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            release(state, startedAt);
+        }
+    }
+
+    /**
+     * 구독 시점에 실행 허가를 받고, 스트림이 끝나거나 취소되면 허가를 반납합니다.
+     * 허가를 기다리는 동안 구독한 스레드가 대기하므로 요청 스레드가 아닌 작업 스레드에서 구독해야 합니다.
+     *
+     * @param lane 호출 레인
+     * @param call 스트림을 시작하는 호출
+     * @return 허가 안에서 실행되는 스트림
+     */
+    public <T> Flux<T> stream(Lane lane, Supplier<Flux<T>> call) {
+        return Flux.using(
+                () -> new Permit(acquire(lane), System.nanoTime()),
+                permit -> call.get(),
+                permit -> release(permit.state, permit.startedAt)
+        );
+    }
+
+    /**
+     * 마지막으로 Ollama 호출이 끝난 시각 (epoch ms, 호출이 없었으면 0)
+     */
+    public long getLastCompletedAt() {
+        return lastCompletedAt;
+    }
+
+    private LaneState acquire(Lane lane) {
+        LaneState state = lanes.get(lane);
+        long enqueuedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (!canEnter(state)) {
+                if (state.waiting >= state.queueCapacity) {
+                    state.rejected.increment();
+                    throw new RejectedExecutionException(lane + " 레인 대기열이 가득 찼습니다.");
+                }
+
+                state.waiting++;
+                try {
+                    long remaining = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMs);
+                    while (!canEnter(state)) {
+                        if (remaining <= 0) {
+                            state.rejected.increment();
+                            throw new RejectedExecutionException(lane + " 레인 대기 시간이 초과되었습니다.");
+                        }
+                        remaining = state.available.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException(lane + " 레인 대기 중 인터럽트되었습니다.", e);
+                } finally {
+                    state.waiting--;
+                    // 우선순위 조건이 바뀌었을 수 있으므로 다른 레인 대기자도 다시 확인하게 합니다.
+                    signalAll();
+                }
+            }
+
+            state.active++;
+            totalActive++;
+        } finally {
+            lock.unlock();
+        }
+        state.queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        return state;
+    }
+
+    private void release(LaneState state, long startedAt) {
+        state.serviceTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        lastCompletedAt = System.currentTimeMillis();
+        lock.lock();
+        try {
+            state.active--;
+            totalActive--;
+            signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lock을 잡은 상태에서 호출해야 합니다.
+     */
+    private boolean canEnter(LaneState state) {
+        if (totalActive >= maxConcurrency || state.active >= state.maxConcurrency) {
+            return false;
+        }
+        if (state.lane == Lane.BACKGROUND) {
+            LaneState interactive = lanes.get(Lane.INTERACTIVE);
+            return interactive.waiting == 0 || interactive.active >= interactive.maxConcurrency;
+        }
+        return true;
+    }
+
+    private void signalAll() {
+        for (LaneState state : lanes.values()) {
+            state.available.signalAll();
+        }
+    }
+
+    /**
+     * 레인별 상태와 지표
+     */
+    private final class LaneState {
+        private final Lane lane;
+        private final int maxConcurrency;
+        private final int queueCapacity;
+        private final Condition available = lock.newCondition();
+        private final Timer queueWait;
+        private final Timer serviceTime;
+        private final Counter rejected;
+        private int active;
+        private int waiting;
+
+        private LaneState(Lane lane, int maxConcurrency, int queueCapacity) {
+            this.lane = lane;
+            this.maxConcurrency = maxConcurrency;
+            this.queueCapacity = queueCapacity;
+
+            String tag = lane.name().toLowerCase();
+            queueWait = Timer.builder("upik.ai.scheduler.queue-wait")
+                    .description("AI 호출 실행 허가 대기 시간")
+                    .tag("lane", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            serviceTime = Timer.builder("upik.ai.scheduler.service-time")
+                    .description("AI 호출 실행 시간")
+                    .tag("lane", tag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            rejected = Counter.builder("upik.ai.scheduler.rejected")
+                    .description("AI 호출 거절 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("upik.ai.scheduler.active", this, state -> state.active)
+                    .description("실행 중인 AI 호출 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("upik.ai.scheduler.waiting", this, state -> state.waiting)
+                    .description("실행 허가를 기다리는 AI 호출 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 스트림 호출에 발급된 실행 허가
+     */
+    private static final class Permit {
+        private final LaneState state;
+        private final long startedAt;
+
+        private Permit(LaneState state, long startedAt) {
+            this.state = state;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package pluto.upik.shared.ai.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI 작업 전용 실행기
+ * LLM 호출처럼 오래 걸리는 작업을 크기가 제한된 전용 스레드 풀에서 실행해, 요청 스레드(Tomcat)가 기다리지 않도록 합니다.
+ * 제한 시간이 지나면 결과 Future를 TimeoutException으로 끝내고 실행 중인 작업을 인터럽트해 취소합니다.
+ * 인터럽트로 멈추려면 작업이 인터럽트에 반응해야 하므로, LLM 호출은 ChatAiService에서 스트리밍 구독을 block()으로 기다려
+ * 인터럽트되면 구독이 해제되고 Ollama 연결이 끊기도록 합니다.
+ * 대기열이 가득 차면 RejectedExecutionException으로 끝난 Future를 바로 반환합니다.
+ */
+@Component
+@Slf4j
+public class AiTaskExecutor {
+
+    @Value("${upik.ai.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${upik.ai.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    private final AtomicLong threadSequence = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "ai-executor-" + threadSequence.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업을 실행하고 결과를 비동기로 반환합니다.
+     *
+     * @param task 실행할 작업
+     * @param timeout 제한 시간
+     * @return 작업 결과 (제한 시간 초과 시 TimeoutException, 대기열 초과 시 RejectedExecutionException으로 완료)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task, Duration timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running;
+        try {
+            running = executor.submit(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 작업 대기열이 가득 차 요청을 거절합니다 - 대기 중: {}", executor.getQueue().size());
+            return CompletableFuture.failedFuture(e);
+        }
+
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    if (error instanceof TimeoutException) {
+                        running.cancel(true);
+                    }
+                });
+        return result;
+    }
+}
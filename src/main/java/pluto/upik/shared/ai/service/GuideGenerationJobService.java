@@ -0,0 +1,206 @@
+package pluto.upik.shared.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteService;
+import pluto.upik.shared.ai.data.DTO.GuideDraftDTO;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+import pluto.upik.shared.ai.repository.GuideGenerationJobRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 가이드 생성 작업 큐 서비스
+ * 작업의 등록, 점유, 완료, 재시도를 각각 짧은 트랜잭션으로 처리합니다.
+ * AI 호출은 이 서비스 밖(트랜잭션 밖)에서 수행되므로 생성 도중에는 DB 커넥션을 잡고 있지 않습니다.
+ * 완료, 점유 해제, 실패 처리는 작업 행을 잠그고 점유 회차가 그대로인지 확인한 뒤에만 반영하므로,
+ * 점유가 만료된 워커가 다른 워커의 실행 결과를 덮어쓰지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GuideGenerationJobService {
+
+    private final GuideGenerationJobRepository jobRepository;
+    private final GuideRepository guideRepository;
+    private final VoteRepository voteRepository;
+    private final VoteService voteService;
+
+    @Value("${upik.ai.guide-job.lease-ms:600000}")
+    private long leaseMs;
+
+    @Value("${upik.ai.guide-job.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${upik.ai.guide-job.retry-backoff-ms:30000}")
+    private long retryBackoffMs;
+
+    /**
+     * 투표를 종료하고 종료된 투표의 가이드 생성 작업을 같은 트랜잭션에서 등록합니다.
+     * 커밋되면 작업이 유실되지 않으므로, 이후 워커가 실패하거나 재시작되어도 가이드 생성이 이어집니다.
+     *
+     * @param voteIds 종료할 투표 ID 목록
+     * @return 종료된 투표 수
+     */
+    @Transactional
+    public int closeAndEnqueue(Collection<UUID> voteIds) {
+        List<Vote> closedVotes = voteService.closeVotes(voteIds);
+        if (closedVotes.isEmpty()) {
+            return 0;
+        }
+
+        // 투표당 작업은 하나이므로, 가이드 신고 수락으로 다시 열렸다가 종료된 투표는 끝난 작업을 새 종료 회차로 되돌립니다.
+        // 아직 대기 중이거나 실행 중인 작업은 최신 투표 결과로 생성되므로 그대로 둡니다.
+        Map<UUID, GuideGenerationJob> existingJobs = jobRepository.findByVoteIdIn(closedVotes.stream().map(Vote::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(GuideGenerationJob::getVoteId, job -> job));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GuideGenerationJob> jobs = new ArrayList<>();
+        for (Vote vote : closedVotes) {
+            GuideGenerationJob existing = existingJobs.get(vote.getId());
+            if (existing == null) {
+                jobs.add(GuideGenerationJob.pending(vote.getId(), vote.getCategory(), now));
+            } else if (existing.getStatus() == GuideGenerationJob.Status.DONE
+                    || existing.getStatus() == GuideGenerationJob.Status.FAILED) {
+                existing.requeue(vote.getCategory(), now);
+                jobs.add(existing);
+            }
+        }
+        jobRepository.saveAll(jobs);
+
+        log.info("가이드 생성 작업 등록 - 종료된 투표 수: {}, 등록된 작업 수: {}", closedVotes.size(), jobs.size());
+        return closedVotes.size();
+    }
+
+    /**
+     * 실행 가능한 작업을 점유합니다.
+     * 행 잠금은 이 트랜잭션이 커밋되면 풀리고, 이후에는 RUNNING 상태와 점유 만료 시각으로 중복 실행을 막습니다.
+     *
+     * @param limit 최대 개수
+     * @return 점유한 작업 목록
+     */
+    @Transactional
+    public List<GuideGenerationJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<GuideGenerationJob> jobs = jobRepository.lockClaimable(now, limit);
+        // DATETIME(6)에 저장된 값과 그대로 비교할 수 있도록 마이크로초 단위로 맞춥니다.
+        LocalDateTime lockedUntil = now.plus(Duration.ofMillis(leaseMs)).truncatedTo(ChronoUnit.MICROS);
+        jobs.forEach(job -> job.claim(lockedUntil));
+        return jobs;
+    }
+
+    /**
+     * 생성된 가이드를 저장하고 작업을 완료 처리합니다.
+     * 다시 열렸다가 종료된 투표처럼 이미 가이드가 있으면 새로 생성한 내용으로 교체합니다.
+     * 점유 만료로 다른 워커가 같은 작업을 다시 점유했거나 먼저 끝낸 경우에는 아무것도 하지 않습니다.
+     *
+     * @param claimed 점유 시 받은 작업
+     * @param draft 번역된 가이드 초안
+     */
+    @Transactional
+    public void complete(GuideGenerationJob claimed, GuideDraftDTO draft) {
+        GuideGenerationJob job = lockClaimed(claimed).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        Optional<Guide> existing = guideRepository.findByVoteId(job.getVoteId());
+        if (existing.isPresent()) {
+            Guide guide = existing.get();
+            guide.updateContent(draft.getTitle(), draft.getContent());
+            guide.updateCategory(job.getGuideType());
+            guide.updateGuideType(job.getGuideType());
+            log.info("기존 가이드를 새로 생성한 내용으로 교체 - guideId: {}, voteId: {}", guide.getId(), job.getVoteId());
+        } else {
+            Vote vote = voteRepository.getReferenceById(job.getVoteId());
+            guideRepository.save(Guide.builder()
+                    .vote(vote)
+                    .title(draft.getTitle())
+                    .content(draft.getContent())
+                    .createdAt(LocalDate.now())
+                    .category(job.getGuideType())
+                    .guideType(job.getGuideType())
+                    .revoteCount(0L)
+                    .like(0L)
+                    .build());
+        }
+        job.complete();
+        log.info("가이드 생성 작업 완료 - jobId: {}, voteId: {}", job.getId(), job.getVoteId());
+    }
+
+    /**
+     * AI 호출 허가를 받지 못해 실행하지 못한 작업의 점유를 풉니다.
+     * 작업 자체가 실패한 것은 아니므로 시도 횟수에 넣지 않고, 재시도 간격만큼 뒤에 다시 점유되게 합니다.
+     *
+     * @param claimed 점유 시 받은 작업
+     */
+    @Transactional
+    public void release(GuideGenerationJob claimed) {
+        GuideGenerationJob job = lockClaimed(claimed).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        job.release(LocalDateTime.now().plus(Duration.ofMillis(retryBackoffMs)));
+        log.info("가이드 생성 작업 점유 해제 - jobId: {}, {}ms 후 다시 점유", job.getId(), retryBackoffMs);
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프로 재시도 예약하거나, 재시도 횟수를 넘겼으면 실패 처리합니다.
+     *
+     * @param claimed 점유 시 받은 작업
+     * @param error 실패 사유
+     * @param retryable 재시도할 수 있는 오류인지 여부
+     */
+    @Transactional
+    public void fail(GuideGenerationJob claimed, String error, boolean retryable) {
+        GuideGenerationJob job = lockClaimed(claimed).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        if (!retryable || job.getAttempts() >= maxAttempts) {
+            job.fail(error);
+            log.error("가이드 생성 작업 실패 - jobId: {}, voteId: {}, 시도 횟수: {}, 사유: {}",
+                    job.getId(), job.getVoteId(), job.getAttempts(), error);
+            return;
+        }
+
+        long backoffMs = retryBackoffMs << Math.min(job.getAttempts() - 1, 20);
+        job.retryAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)), error);
+        log.warn("가이드 생성 작업 재시도 예약 - jobId: {}, 시도 횟수: {}, {}ms 후 재시도, 사유: {}",
+                job.getId(), job.getAttempts(), backoffMs, error);
+    }
+
+    /**
+     * 작업 행을 잠그고, 점유한 회차 그대로 실행 중일 때만 돌려줍니다.
+     * 점유를 잃었으면 빈 값을 돌려주고 결과를 반영하지 않습니다.
+     */
+    private Optional<GuideGenerationJob> lockClaimed(GuideGenerationJob claimed) {
+        Optional<GuideGenerationJob> job = jobRepository.findByIdForUpdate(claimed.getId())
+                .filter(current -> current.isClaimedBy(claimed));
+        if (job.isEmpty()) {
+            log.warn("점유를 잃은 가이드 생성 작업의 결과를 반영하지 않습니다 - jobId: {}, voteId: {}, 시도 횟수: {}",
+                    claimed.getId(), claimed.getVoteId(), claimed.getAttempts());
+        }
+        return job;
+    }
+}
@@ -0,0 +1,47 @@
+package pluto.upik.shared.ai.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pluto.upik.shared.ai.data.DTO.GuideGenerationProgressPayload;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.UUID;
+
+/**
+ * 가이드 생성 진행 상황 실시간 전송 서비스
+ * 워커가 생성 중인 토큰 조각을 받는 즉시 구독자에게 전달합니다.
+ * 구독자가 없으면 이벤트는 버려지며, 느린 구독자는 자기 버퍼가 넘칠 때 오래된 조각부터 잃습니다.
+ */
+@Service
+@Slf4j
+public class GuideGenerationProgressBroadcaster {
+
+    private static final int SUBSCRIBER_BUFFER_SIZE = 1024;
+
+    private final Sinks.Many<GuideGenerationProgressPayload> sink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * 가이드 생성 진행 상황을 구독합니다.
+     *
+     * @param voteId 투표 ID (null이면 모든 투표)
+     * @return 진행 상황 스트림
+     */
+    public Flux<GuideGenerationProgressPayload> subscribe(UUID voteId) {
+        return sink.asFlux()
+                .filter(progress -> voteId == null || voteId.equals(progress.getVoteId()))
+                .onBackpressureBuffer(SUBSCRIBER_BUFFER_SIZE, dropped -> { }, BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * 진행 상황을 전송합니다.
+     * 여러 워커 스레드에서 동시에 호출되므로 직렬화해 전송합니다.
+     */
+    public synchronized void publish(GuideGenerationProgressPayload progress) {
+        Sinks.EmitResult result = sink.tryEmitNext(progress);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("가이드 생성 진행 상황 전송 실패 - voteId: {}, result: {}", progress.getVoteId(), result);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package pluto.upik.shared.ai.service;
+
+/**
+ * 가이드 생성 스트림 파서
+ * 토큰 스트림을 받는 대로 "Guide Title:"/"Guide Content:" 구간으로 나누고 &lt;think&gt; 블록을 걸러냅니다.
+ * 전체 응답을 모은 뒤 검색하지 않고, 표식의 앞부분일 수 있는 꼬리 몇 글자만 남겨 두고 나머지는 바로 구간으로 흘려보냅니다.
+ * 스트림 하나당 인스턴스 하나를 사용하며 스레드 안전하지 않습니다.
+ */
+public class GuideStreamParser {
+
+    private static final String THINK_OPEN = "<think>";
+    private static final String THINK_CLOSE = "</think>";
+    private static final String TITLE_MARKER = "Guide Title:";
+    private static final String CONTENT_MARKER = "Guide Content:";
+
+    /**
+     * 가이드 구간
+     */
+    public enum Section {
+        TITLE, CONTENT
+    }
+
+    /**
+     * 파싱 진행 알림
+     */
+    public interface Listener {
+
+        /**
+         * &lt;think&gt; 블록이 시작되었을 때 호출됩니다.
+         */
+        default void onThinking() {
+        }
+
+        /**
+         * 구간에 새 텍스트가 추가되었을 때 호출됩니다.
+         */
+        default void onDelta(Section section, String delta) {
+        }
+    }
+
+    private final Listener listener;
+    private final StringBuilder pending = new StringBuilder();
+    private final StringBuilder title = new StringBuilder();
+    private final StringBuilder content = new StringBuilder();
+    private Section section;
+    private boolean thinking;
+    private boolean titleFound;
+    private boolean contentFound;
+
+    public GuideStreamParser(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 스트림 조각을 추가합니다.
+     */
+    public void feed(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        pending.append(chunk);
+        drain(false);
+    }
+
+    /**
+     * 스트림이 끝났을 때 남은 텍스트를 모두 처리합니다.
+     */
+    public void finish() {
+        drain(true);
+    }
+
+    public boolean isComplete() {
+        return titleFound && contentFound;
+    }
+
+    public String getTitle() {
+        return title.toString().trim();
+    }
+
+    public String getContent() {
+        return content.toString().trim();
+    }
+
+    private void drain(boolean last) {
+        while (pending.length() > 0) {
+            if (thinking) {
+                int end = indexOf(THINK_CLOSE, true);
+                if (end < 0) {
+                    // 생각 블록 안의 텍스트는 닫는 태그의 앞부분일 수 있는 꼬리만 남기고 버립니다.
+                    pending.delete(0, pending.length() - (last ? 0 : partialSuffix(THINK_CLOSE, true)));
+                    return;
+                }
+                pending.delete(0, end + THINK_CLOSE.length());
+                thinking = false;
+                continue;
+            }
+
+            String marker = null;
+            int markerAt = -1;
+            for (String candidate : activeMarkers()) {
+                int at = indexOf(candidate, candidate.equals(THINK_OPEN));
+                if (at >= 0 && (markerAt < 0 || at < markerAt)) {
+                    marker = candidate;
+                    markerAt = at;
+                }
+            }
+
+            if (marker == null) {
+                int keep = 0;
+                if (!last) {
+                    for (String candidate : activeMarkers()) {
+                        keep = Math.max(keep, partialSuffix(candidate, candidate.equals(THINK_OPEN)));
+                    }
+                }
+                emit(pending.substring(0, pending.length() - keep));
+                pending.delete(0, pending.length() - keep);
+                return;
+            }
+
+            emit(pending.substring(0, markerAt));
+            pending.delete(0, markerAt + marker.length());
+            switch (marker) {
+                case THINK_OPEN -> {
+                    thinking = true;
+                    listener.onThinking();
+                }
+                case TITLE_MARKER -> {
+                    section = Section.TITLE;
+                    titleFound = true;
+                }
+                default -> {
+                    section = Section.CONTENT;
+                    contentFound = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 구간에서 찾아야 하는 표식
+     * 내용 구간이 시작된 뒤의 텍스트는 모두 내용으로 취급합니다.
+     */
+    private String[] activeMarkers() {
+        if (section == null) {
+            return new String[]{THINK_OPEN, TITLE_MARKER, CONTENT_MARKER};
+        }
+        if (section == Section.TITLE) {
+            return new String[]{THINK_OPEN, CONTENT_MARKER};
+        }
+        return new String[]{THINK_OPEN};
+    }
+
+    private void emit(String text) {
+        if (section == null || text.isEmpty()) {
+            return;
+        }
+
+        StringBuilder target = section == Section.TITLE ? title : content;
+        String delta = target.isEmpty() ? text.stripLeading() : text;
+        if (delta.isEmpty()) {
+            return;
+        }
+        target.append(delta);
+        listener.onDelta(section, delta);
+    }
+
+    private int indexOf(String marker, boolean ignoreCase) {
+        String text = pending.toString();
+        if (!ignoreCase) {
+            return text.indexOf(marker);
+        }
+        for (int i = 0; i + marker.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, marker, 0, marker.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 남은 텍스트의 꼬리 중 표식의 앞부분과 일치하는 가장 긴 길이
+     */
+    private int partialSuffix(String marker, boolean ignoreCase) {
+        String text = pending.toString();
+        for (int length = Math.min(marker.length() - 1, text.length()); length > 0; length--) {
+            if (text.regionMatches(ignoreCase, text.length() - length, marker, 0, length)) {
+                return length;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,28 @@
+package pluto.upik.shared.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ollama 모델 상태 헬스 인디케이터 (이름: ollamaModel)
+ * 예열 중에는 OUT_OF_SERVICE를 보고해 readiness 그룹이 트래픽을 받지 않게 하고,
+ * 모델이 응답한 뒤에는 UP을 보고합니다.
+ * 예열을 끝내 실패한 경우에도 AI 외 기능은 제공할 수 있도록 UP으로 보고하고 상태만 세부 정보로 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OllamaModelHealthIndicator implements HealthIndicator {
+
+    private final OllamaModelWarmer modelWarmer;
+
+    @Override
+    public Health health() {
+        OllamaModelWarmer.State state = modelWarmer.getState();
+        if (modelWarmer.isEnabled() && (state == OllamaModelWarmer.State.COLD || state == OllamaModelWarmer.State.WARMING)) {
+            return Health.outOfService().withDetail("state", state).build();
+        }
+        return Health.up().withDetail("state", state).build();
+    }
+}
@@ -0,0 +1,161 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.shared.ai.config.ChatAiService;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ollama 모델 예열 및 유지 관리자
+ * 애플리케이션이 준비되면 별도 스레드에서 짧은 프롬프트를 보내 모델을 미리 적재하고, 응답이 올 때까지 재시도합니다.
+ * 적재가 끝난 뒤에는 일정 시간 동안 Ollama 호출이 없을 때만 keep-alive 호출을 보내 모델이 내려가지 않게 합니다.
+ * keep-alive 호출도 별도 스레드에서 보내므로, 모델이 느리게 응답해도 다른 @Scheduled 작업이 공유하는 스케줄링 스레드를 붙잡지 않습니다.
+ * 모델 상태는 OllamaModelHealthIndicator를 통해 readiness 그룹에 반영되므로, 모델이 응답하기 전까지는 트래픽을 받지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OllamaModelWarmer {
+
+    /**
+     * 모델 상태
+     */
+    public enum State {
+        COLD, WARMING, READY, FAILED
+    }
+
+    private final ChatAiService chatAiService;
+    private final AiCallScheduler callScheduler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${upik.ai.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${upik.ai.warmup.prompt:Hi}")
+    private String prompt;
+
+    @Value("${upik.ai.warmup.max-attempts:12}")
+    private int maxAttempts;
+
+    @Value("${upik.ai.warmup.retry-interval-ms:5000}")
+    private long retryIntervalMs;
+
+    @Value("${upik.ai.warmup.keep-alive-interval-ms:240000}")
+    private long keepAliveIntervalMs;
+
+    @Value("${upik.ai.warmup.keep-alive:10m}")
+    private String keepAlive;
+
+    private volatile State state = State.COLD;
+    private volatile Thread warmupThread;
+    private volatile Thread keepAliveThread;
+    private final AtomicBoolean pinging = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("upik.ai.model.ready", this, warmer -> warmer.state == State.READY ? 1 : 0)
+                .description("Ollama 모델 적재 여부 (1: 적재됨)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Thread thread : new Thread[]{warmupThread, keepAliveThread}) {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        state = State.WARMING;
+        warmupThread = Thread.ofVirtual().name("ollama-warmup").start(this::warmUp);
+    }
+
+    /**
+     * 최근 호출이 없으면 keep-alive 호출을 보냅니다.
+     * 예열에 실패한 상태라면 다시 예열을 시도합니다.
+     * 호출은 별도 스레드에서 보내고, 이전 호출이 아직 끝나지 않았으면 새로 보내지 않습니다.
+     */
+    @Scheduled(initialDelayString = "${upik.ai.warmup.keep-alive-interval-ms:240000}",
+            fixedDelayString = "${upik.ai.warmup.keep-alive-interval-ms:240000}")
+    public void keepAlive() {
+        if (!enabled || state == State.COLD || state == State.WARMING) {
+            return;
+        }
+        long idleMs = System.currentTimeMillis() - callScheduler.getLastCompletedAt();
+        if (state == State.READY && idleMs < keepAliveIntervalMs) {
+            return;
+        }
+        if (!pinging.compareAndSet(false, true)) {
+            return;
+        }
+
+        keepAliveThread = Thread.ofVirtual().name("ollama-keep-alive").start(() -> {
+            try {
+                ping(idleMs);
+            } finally {
+                pinging.set(false);
+            }
+        });
+    }
+
+    private void ping(long idleMs) {
+        try {
+            chatAiService.warmUp(prompt, keepAlive);
+            if (state != State.READY) {
+                log.info("Ollama 모델 적재 확인 - keep-alive 호출 성공");
+            }
+            state = State.READY;
+        } catch (Exception e) {
+            log.warn("Ollama keep-alive 호출 실패 - 유휴 시간: {}ms, 원인: {}", idleMs, e.getMessage());
+        }
+    }
+
+    private void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                chatAiService.warmUp(prompt, keepAlive);
+                state = State.READY;
+                log.info("Ollama 모델 예열 완료 - 시도 횟수: {}, 소요시간: {}ms", attempt, System.currentTimeMillis() - startedAt);
+                return;
+            } catch (Exception e) {
+                log.warn("Ollama 모델 예열 실패 - 시도: {}/{}, 원인: {}", attempt, maxAttempts, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(retryIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        // 모델 없이도 AI 외 기능은 제공할 수 있으므로 readiness를 계속 막지 않고, keep-alive 주기마다 다시 시도합니다.
+        state = State.FAILED;
+        log.error("Ollama 모델 예열을 {}회 시도했지만 실패했습니다. keep-alive 주기마다 다시 시도합니다.", maxAttempts);
+    }
+}
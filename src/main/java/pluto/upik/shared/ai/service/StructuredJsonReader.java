@@ -0,0 +1,251 @@
+package pluto.upik.shared.ai.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import pluto.upik.shared.exception.StructuredOutputException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AI 구조화 출력 스트림 리더
+ * 응답 조각을 받는 대로 Jackson 비차단 파서에 넣어 토큰 단위로 읽고, 토큰마다 스키마와 비교합니다.
+ * JSON이 아닌 글로 시작하거나, 스키마에 없는 속성이 나오거나, 값의 타입이 다르면 그 조각을 받은 시점에
+ * StructuredOutputException을 던지므로 잘못된 응답은 생성이 끝나기 전에 걸러집니다.
+ * 응답 앞의 공백과 &lt;think&gt; 블록은 건너뜁니다.
+ * 스트림 하나당 인스턴스 하나를 사용하며 스레드 안전하지 않습니다.
+ *
+ * @param <T> 응답을 매핑할 타입
+ */
+public class StructuredJsonReader<T> {
+
+    private static final String THINK_OPEN = "<think>";
+    private static final String THINK_CLOSE = "</think>";
+
+    private final ObjectMapper objectMapper;
+    private final StructuredOutput<T> output;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer tokens;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final StringBuilder preamble = new StringBuilder();
+
+    private boolean started;
+    private boolean complete;
+    private String pendingField;
+
+    public StructuredJsonReader(ObjectMapper objectMapper, StructuredOutput<T> output) {
+        this.objectMapper = objectMapper;
+        this.output = output;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("비차단 JSON 파서를 만들 수 없습니다.", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(objectMapper, false);
+    }
+
+    /**
+     * 응답 조각을 읽습니다.
+     *
+     * @param chunk 응답 조각
+     * @throws StructuredOutputException 응답이 스키마와 맞지 않는 경우
+     */
+    public void feed(String chunk) {
+        if (complete || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        if (!started) {
+            preamble.append(chunk);
+            chunk = skipPreamble();
+            if (chunk == null) {
+                return;
+            }
+        }
+
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            throw new StructuredOutputException("AI 응답이 올바른 JSON이 아닙니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스트림이 끝났을 때 호출해 응답을 타입으로 매핑합니다.
+     *
+     * @return 매핑된 응답
+     * @throws StructuredOutputException 응답이 끝나지 않았거나 매핑할 수 없는 경우
+     */
+    public T finish() {
+        if (!complete) {
+            feeder.endOfInput();
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new StructuredOutputException("AI 응답이 올바른 JSON이 아닙니다: " + e.getMessage(), e);
+            }
+        }
+        if (!complete) {
+            throw new StructuredOutputException("AI 응답 JSON이 끝나지 않았습니다.");
+        }
+
+        try (JsonParser buffered = tokens.asParser(objectMapper)) {
+            return objectMapper.readValue(buffered, output.getType());
+        } catch (IOException e) {
+            throw new StructuredOutputException("AI 응답을 " + output.getType().getSimpleName() + "(으)로 변환할 수 없습니다.", e);
+        }
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * JSON 앞의 공백과 &lt;think&gt; 블록을 건너뛰고, JSON이 시작되면 그 부분부터 돌려줍니다.
+     * 아직 판단할 수 없으면 null을 돌려줍니다.
+     */
+    private String skipPreamble() {
+        while (true) {
+            int start = 0;
+            while (start < preamble.length() && Character.isWhitespace(preamble.charAt(start))) {
+                start++;
+            }
+            preamble.delete(0, start);
+            if (preamble.isEmpty()) {
+                return null;
+            }
+
+            String rest = preamble.toString();
+            if (rest.startsWith(THINK_OPEN)) {
+                int close = rest.indexOf(THINK_CLOSE);
+                if (close < 0) {
+                    return null;
+                }
+                preamble.delete(0, close + THINK_CLOSE.length());
+                continue;
+            }
+            if (THINK_OPEN.startsWith(rest)) {
+                return null;
+            }
+            if (rest.charAt(0) != '{' && rest.charAt(0) != '[') {
+                throw new StructuredOutputException("AI 응답이 JSON으로 시작하지 않습니다.");
+            }
+
+            started = true;
+            preamble.setLength(0);
+            return rest;
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!complete && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            validate(token);
+            tokens.copyCurrentEvent(parser);
+            if (frames.isEmpty()) {
+                complete = true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void validate(JsonToken token) throws IOException {
+        Frame frame = frames.peek();
+
+        if (token == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            Map<String, Object> properties = (Map<String, Object>) frame.schema.get("properties");
+            if (properties != null && !properties.containsKey(field)) {
+                throw new StructuredOutputException("AI 응답에 스키마에 없는 속성이 있습니다: " + field);
+            }
+            frame.seen.add(field);
+            pendingField = field;
+            return;
+        }
+
+        if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+            frames.pop();
+            Object required = frame.schema.get("required");
+            if (required instanceof Collection<?> names && !frame.seen.containsAll(names)) {
+                throw new StructuredOutputException("AI 응답에 필수 속성이 없습니다: " + names);
+            }
+            Object minItems = frame.schema.get("minItems");
+            if (minItems instanceof Number min && frame.items < min.intValue()) {
+                throw new StructuredOutputException("AI 응답 배열의 항목 수가 부족합니다: " + frame.items + "/" + min);
+            }
+            return;
+        }
+
+        Map<String, Object> schema = valueSchema(frame);
+        if (frame != null) {
+            frame.items++;
+            Object maxItems = frame.schema.get("maxItems");
+            if (maxItems instanceof Number max && frame.items > max.intValue()) {
+                throw new StructuredOutputException("AI 응답 배열의 항목 수가 너무 많습니다: " + frame.items + "/" + max);
+            }
+        }
+        if (schema != null && !matches(schema.get("type"), token)) {
+            throw new StructuredOutputException("AI 응답 값의 타입이 스키마와 다릅니다 - 기대: " + schema.get("type") + ", 실제: " + token);
+        }
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            frames.push(new Frame(schema != null ? schema : Map.of()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> valueSchema(Frame frame) {
+        if (frame == null) {
+            return output.getSchema();
+        }
+        if ("array".equals(frame.schema.get("type"))) {
+            return (Map<String, Object>) frame.schema.get("items");
+        }
+        Map<String, Object> properties = (Map<String, Object>) frame.schema.get("properties");
+        return properties != null ? (Map<String, Object>) properties.get(pendingField) : null;
+    }
+
+    private static boolean matches(Object type, JsonToken token) {
+        if (type == null) {
+            return true;
+        }
+        if (type instanceof List<?> types) {
+            return types.stream().anyMatch(candidate -> matches(candidate, token));
+        }
+        return switch (type.toString()) {
+            case "object" -> token == JsonToken.START_OBJECT;
+            case "array" -> token == JsonToken.START_ARRAY;
+            case "string" -> token == JsonToken.VALUE_STRING;
+            case "integer" -> token == JsonToken.VALUE_NUMBER_INT;
+            case "number" -> token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+            case "boolean" -> token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+            case "null" -> token == JsonToken.VALUE_NULL;
+            default -> true;
+        };
+    }
+
+    /**
+     * 열려 있는 객체/배열과 그 스키마
+     */
+    private static final class Frame {
+        private final Map<String, Object> schema;
+        private final Set<String> seen = new HashSet<>();
+        private int items;
+
+        private Frame(Map<String, Object> schema) {
+            this.schema = schema;
+        }
+    }
+}
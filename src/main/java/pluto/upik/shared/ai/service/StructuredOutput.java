@@ -0,0 +1,43 @@
+package pluto.upik.shared.ai.service;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 구조화 출력 정의
+ * Ollama에 format으로 넘길 JSON 스키마와 응답을 매핑할 타입을 함께 묶습니다.
+ * 이름은 응답 캐시 키에 포함되므로 스키마가 달라지면 이름도 달라져야 합니다.
+ *
+ * @param <T> 응답을 매핑할 타입
+ */
+@Getter
+public final class StructuredOutput<T> {
+
+    private final String name;
+    private final Map<String, Object> schema;
+    private final Class<T> type;
+
+    public StructuredOutput(String name, Map<String, Object> schema, Class<T> type) {
+        this.name = name;
+        this.schema = schema;
+        this.type = type;
+    }
+
+    /**
+     * 문자열 속성들로 이루어진 객체 스키마를 만듭니다. (모든 속성 필수)
+     */
+    public static Map<String, Object> stringObjectSchema(String... properties) {
+        Map<String, Object> propertySchemas = new LinkedHashMap<>();
+        for (String property : properties) {
+            propertySchemas.put(property, Map.of("type", "string"));
+        }
+        return Map.of(
+                "type", "object",
+                "properties", propertySchemas,
+                "required", List.of(properties)
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package pluto.upik.shared.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 단일 실행(single-flight) 캐시
+ * 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 진행 중인 CompletableFuture를 함께 기다리고,
+ * 완료된 결과는 짧은 TTL 동안 캐시해 바로 뒤따르는 요청도 다시 계산하지 않습니다.
+ * 예외로 끝났거나 캐시 조건을 만족하지 않는 결과는 기다리던 요청에만 전달하고 캐시에 남기지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlightCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+    private final Predicate<V> cacheable;
+
+    /**
+     * @param ttl 완료된 결과를 유지할 시간
+     * @param maxEntries 최대 항목 수
+     * @param cacheable 결과를 캐시에 남길지 판단하는 조건
+     */
+    public SingleFlightCache(Duration ttl, long maxEntries, Predicate<V> cacheable) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .buildAsync();
+        this.cacheable = cacheable;
+    }
+
+    /**
+     * 캐시되었거나 진행 중인 결과를 반환하고, 없으면 호출한 스레드에서 loader를 실행합니다.
+     *
+     * @param key 키
+     * @param loader 결과를 계산하는 함수
+     * @return 결과
+     */
+    public V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, own);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = loader.get();
+            own.complete(value);
+            if (value == null || !cacheable.test(value)) {
+                cache.asMap().remove(key, own);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * get의 비동기 버전으로, loader가 반환한 Future의 결과를 같은 키의 요청들이 함께 기다립니다.
+     * 호출자마다 복사본을 반환하므로 한 호출자가 자기 Future를 취소하거나 제한 시간을 걸어도 다른 호출자에게 영향을 주지 않습니다.
+     *
+     * @param key 키
+     * @param loader 결과 Future를 시작하는 함수
+     * @return 결과 Future
+     */
+    public CompletableFuture<V> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, own);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((value, error) -> {
+            if (error != null || value == null || !cacheable.test(value)) {
+                cache.asMap().remove(key, own);
+            }
+            if (error != null) {
+                own.completeExceptionally(error);
+            } else {
+                own.complete(value);
+            }
+        });
+        return own.copy();
+    }
+
+    /**
+     * 진행 중이거나 캐시된 항목 수 (추정치)
+     */
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package pluto.upik.shared.exception;
+
+/**
+ * AI의 구조화 출력(JSON)이 요청한 스키마와 맞지 않을 때 발생하는 예외
+ * 스트림을 읽는 도중 어긋남을 발견하는 즉시 발생하므로, 호출자는 남은 생성을 기다리지 않고 다른 경로로 넘어갈 수 있습니다.
+ */
+public class StructuredOutputException extends BusinessException {
+
+    /**
+     * 메시지를 지정하는 생성자
+     *
+     * @param message 예외 메시지
+     */
+    public StructuredOutputException(String message) {
+        super(message);
+    }
+
+    /**
+     * 메시지와 원인을 지정하는 생성자
+     *
+     * @param message 예외 메시지
+     * @param cause 원인 예외
+     */
+    public StructuredOutputException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,116 @@
+package pluto.upik.shared.pagination;
+
+import graphql.relay.Connection;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Relay 커서 기반 페이지네이션 유틸리티
+ * 정렬 키 값을 커서로 인코딩하고, 키셋(seek) 조회 결과를 Relay Connection으로 변환합니다.
+ * 조회는 항상 요청 크기보다 1건 더 가져와 다음 페이지 존재 여부를 판단합니다.
+ */
+public final class CursorPagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorPagination() {
+    }
+
+    /**
+     * 요청된 페이지 크기를 허용 범위로 보정합니다.
+     *
+     * @param first 요청된 페이지 크기 (null이면 기본값)
+     * @return 보정된 페이지 크기
+     */
+    public static int pageSize(Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (first < 1) {
+            throw new IllegalArgumentException("first는 1 이상이어야 합니다.");
+        }
+        return Math.min(first, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 페이지 크기보다 1건 많은 조회 제한
+     */
+    public static Limit fetchLimit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩합니다.
+     */
+    public static String encode(Object... keys) {
+        List<String> parts = new ArrayList<>(keys.length);
+        for (Object key : keys) {
+            parts.add(String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 디코딩합니다.
+     *
+     * @param cursor 커서 문자열
+     * @param keyCount 기대하는 키 개수
+     * @return 정렬 키 문자열 목록
+     */
+    public static List<String> decode(String cursor, int keyCount) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+
+        List<String> parts = List.of(decoded.split("\\" + SEPARATOR, -1));
+        if (parts.size() != keyCount) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        return parts;
+    }
+
+    /**
+     * 키셋 조회 결과를 Relay Connection으로 변환합니다.
+     *
+     * @param rows 페이지 크기 + 1건까지 조회된 결과
+     * @param pageSize 페이지 크기
+     * @param hasPreviousPage 이전 페이지 존재 여부 (after 커서가 주어졌는지)
+     * @param cursorOf 항목의 커서 생성 함수
+     * @return Relay Connection
+     */
+    public static <T> Connection<T> toConnection(List<T> rows, int pageSize, boolean hasPreviousPage,
+                                                 Function<T, String> cursorOf) {
+        boolean hasNextPage = rows.size() > pageSize;
+        List<T> page = hasNextPage ? rows.subList(0, pageSize) : rows;
+
+        List<Edge<T>> edges = new ArrayList<>(page.size());
+        for (T node : page) {
+            edges.add(new DefaultEdge<>(node, new DefaultConnectionCursor(cursorOf.apply(node))));
+        }
+
+        DefaultPageInfo pageInfo = new DefaultPageInfo(
+                edges.isEmpty() ? null : edges.get(0).getCursor(),
+                edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor(),
+                hasPreviousPage,
+                hasNextPage
+        );
+        return new DefaultConnection<>(edges, pageInfo);
+    }
+}
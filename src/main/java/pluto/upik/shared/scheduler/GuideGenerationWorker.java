@@ -0,0 +1,112 @@
+package pluto.upik.shared.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.shared.ai.data.DTO.GuideDraftDTO;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.shared.ai.service.GuideGenerationJobService;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가이드 생성 작업 워커
+ * 주기적으로 가이드 생성 작업을 점유해 워커 스레드에서 실행합니다.
+ * 동시에 실행되는 작업 수는 AI 호출 스케줄러의 BACKGROUND 레인 상한으로 제한되며, DB 커넥션은 점유/완료의 짧은 트랜잭션 동안만 사용합니다.
+ * 레인 상한보다 많이 점유하면 남는 작업이 허가를 기다리다 거절되므로, 거절된 작업은 시도 횟수를 늘리지 않고 점유만 풉니다.
+ * 여러 인스턴스가 떠 있어도 SKIP LOCKED 점유로 같은 작업을 나눠 가집니다. (동시 처리 수 제한은 인스턴스 단위입니다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuideGenerationWorker {
+
+    private final GuideGenerationJobService jobService;
+    private final AIService aiService;
+
+    @Value("${upik.ai.ollama.max-concurrency:2}")
+    private int ollamaMaxConcurrency;
+
+    @Value("${upik.ai.scheduler.background.max-concurrency:1}")
+    private int backgroundMaxConcurrency;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong threadSequence = new AtomicLong();
+    private int maxConcurrency;
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void init() {
+        // 가이드 생성은 BACKGROUND 레인으로 호출하므로, 레인이 동시에 허가하는 수만큼만 점유합니다.
+        maxConcurrency = Math.max(1, Math.min(backgroundMaxConcurrency, ollamaMaxConcurrency));
+        workers = Executors.newFixedThreadPool(maxConcurrency,
+                runnable -> new Thread(runnable, "guide-worker-" + threadSequence.incrementAndGet()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 빈 워커 수만큼 작업을 점유해 실행합니다.
+     * 점유 후 중단된 작업은 점유 만료 시각이 지나면 다시 점유됩니다.
+     */
+    @Scheduled(initialDelayString = "${upik.ai.guide-job.poll-interval-ms:5000}",
+            fixedDelayString = "${upik.ai.guide-job.poll-interval-ms:5000}")
+    public void poll() {
+        int idle = maxConcurrency - running.get();
+        if (idle <= 0) {
+            return;
+        }
+
+        List<GuideGenerationJob> jobs;
+        try {
+            jobs = jobService.claim(idle);
+        } catch (Exception e) {
+            log.error("가이드 생성 작업 점유 중 오류 발생", e);
+            return;
+        }
+
+        for (GuideGenerationJob job : jobs) {
+            running.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void run(GuideGenerationJob job) {
+        try {
+            String prompt = aiService.buildGuidePrompt(job.getVoteId(), job.getGuideType());
+            // 이전 시도가 실패했다면 캐시된 응답이 원인일 수 있으므로 재시도에서는 새로 생성합니다.
+            GuideDraftDTO draft = aiService.generateGuideDraft(job.getVoteId(), prompt, job.getAttempts() <= 1);
+            jobService.complete(job, draft);
+        } catch (RejectedExecutionException e) {
+            // INTERACTIVE 호출이 몰려 BACKGROUND 허가를 받지 못했을 뿐이므로 실패로 세지 않습니다.
+            log.info("AI 호출 허가를 받지 못해 가이드 생성 작업을 미룹니다 - jobId: {}, 사유: {}", job.getId(), e.getMessage());
+            jobService.release(job);
+        } catch (ResourceNotFoundException e) {
+            // 투표 옵션이나 꼬리 질문이 없으면 재시도해도 결과가 같습니다.
+            jobService.fail(job, e.getMessage(), false);
+        } catch (Exception e) {
+            log.warn("가이드 생성 작업 실행 실패 - jobId: {}, voteId: {}", job.getId(), job.getVoteId(), e);
+            jobService.fail(job, e.getMessage(), true);
+        }
+    }
+}
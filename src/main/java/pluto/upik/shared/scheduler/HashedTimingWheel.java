@@ -0,0 +1,95 @@
+package pluto.upik.shared.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 시각을 틱 단위로 환산해 (만료 틱 % 휠 크기) 버킷에 넣고, 한 틱 진행할 때마다 해당 버킷만 검사합니다.
+ * 등록은 O(1)이며 한 틱의 비용은 전체 항목 수가 아닌 버킷 크기에 비례합니다.
+ * schedule은 여러 스레드에서 호출할 수 있고, advance는 틱을 진행하는 단일 스레드에서만 호출해야 합니다.
+ *
+ * @param <T> 만료 시 반환할 항목 타입
+ */
+public class HashedTimingWheel<T> {
+
+    private final Deque<Entry<T>>[] buckets;
+    private final int mask;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    /**
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(int wheelSize) {
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("휠 크기는 1 이상이어야 합니다.");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size == 0) {
+            size = 1;
+        }
+        this.buckets = new Deque[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 항목을 지정한 틱 수 뒤에 만료되도록 등록합니다.
+     * 0 이하면 다음 advance에서 바로 만료됩니다.
+     *
+     * @param item 항목
+     * @param delayTicks 만료까지 남은 틱 수
+     */
+    public void schedule(T item, long delayTicks) {
+        pending.add(new Entry<>(item, Math.max(delayTicks, 0)));
+    }
+
+    /**
+     * 한 틱 진행하고 이번 틱에 만료된 항목을 반환합니다.
+     *
+     * @return 만료된 항목 목록
+     */
+    public List<T> advance() {
+        transferPending();
+
+        List<T> expired = new ArrayList<>();
+        Iterator<Entry<T>> iterator = buckets[(int) (currentTick & mask)].iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.deadlineTick <= currentTick) {
+                expired.add(entry.item);
+                iterator.remove();
+            }
+        }
+        currentTick++;
+        return expired;
+    }
+
+    private void transferPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            entry.deadlineTick = currentTick + entry.delayTicks;
+            buckets[(int) (entry.deadlineTick & mask)].add(entry);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long delayTicks;
+        private long deadlineTick;
+
+        private Entry(T item, long delayTicks) {
+            this.item = item;
+            this.delayTicks = delayTicks;
+        }
+    }
+}
@@ -1,34 +1,147 @@
 package pluto.upik.shared.scheduler;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.shared.ai.service.GuideGenerationJobService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 투표 스케줄러
- * 주기적으로 투표를 확인하고 필요한 작업을 수행합니다.
+ * 투표 종료 스케줄러
+ * 진행 중인 투표의 종료 시각을 해시 타이밍 휠에 등록해, 자정 일괄 스캔 대신 각 투표의 종료 시각이 지나는 틱에 종료합니다.
+ * 한 틱에 만료된 투표는 배치 크기 단위의 UPDATE ... WHERE id IN (...)으로 종료하고,
+ * 같은 트랜잭션에서 가이드 생성 작업을 등록해 AI 호출이 휠의 틱 진행을 막지 않도록 합니다.
+ * 투표 종료일(finishedAt)은 해당 날짜 0시에 종료되는 것으로 봅니다. (findActiveVotes와 동일한 기준)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class VoteScheduler {
 
-    //private final VoteService voteService;
+    private final VoteRepository voteRepository;
+    private final GuideGenerationJobService guideGenerationJobService;
+
+    @Value("${upik.vote.close.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${upik.vote.close.wheel-size:4096}")
+    private int wheelSize;
+
+    @Value("${upik.vote.close.batch-size:100}")
+    private int batchSize;
+
+    // 투표 ID -> 현재 유효한 종료일 (재개로 종료일이 바뀌면 이전 휠 항목은 무시됩니다)
+    private final Map<UUID, LocalDate> deadlines = new ConcurrentHashMap<>();
+
+    private HashedTimingWheel<VoteDeadline> wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void init() {
+        wheel = new HashedTimingWheel<>(wheelSize);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "vote-close-wheel"));
+    }
 
     /**
-     * 매일 자정에 종료된 투표를 확인하고 가이드를 생성합니다.
-     * cron 표현식: 초 분 시 일 월 요일
-     * 0 0 0 * * * = 매일 자정(00:00:00)
+     * 진행 중인 투표를 휠에 적재하고 틱 진행을 시작합니다.
+     * 종료일이 이미 지난 OPEN 투표는 첫 틱에 종료됩니다.
      */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void checkFinishedVotes() {
-        log.info("종료된 투표 확인 스케줄러 실행");
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDate today = LocalDate.now();
+        List<Vote> votes = new ArrayList<>(voteRepository.findActiveVotes(today));
+        votes.addAll(voteRepository.findFinishedVotesWithoutGuide(today));
+
+        int scheduled = 0;
+        for (Vote vote : votes) {
+            if (vote.getStatus() == Vote.Status.OPEN) {
+                schedule(vote.getId(), vote.getFinishedAt());
+                scheduled++;
+            }
+        }
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        log.info("투표 종료 스케줄러 시작 - 등록된 투표 수: {}, 틱 간격: {}ms", scheduled, tickMs);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteOpened(VoteOpenedEvent event) {
+        schedule(event.getVoteId(), event.getFinishedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteClosed(VoteClosedEvent event) {
+        deadlines.remove(event.getVoteId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private void schedule(UUID voteId, LocalDate finishedAt) {
+        deadlines.put(voteId, finishedAt);
+        long delayMs = Duration.between(LocalDateTime.now(), finishedAt.atStartOfDay()).toMillis();
+        wheel.schedule(new VoteDeadline(voteId, finishedAt), Math.ceilDiv(delayMs, tickMs));
+    }
+
+    private void tick() {
+        try {
+            List<UUID> expired = new ArrayList<>();
+            for (VoteDeadline deadline : wheel.advance()) {
+                // 재개되어 종료일이 바뀌었거나 이미 종료된 투표의 항목은 건너뜁니다.
+                if (deadlines.remove(deadline.voteId, deadline.finishedAt)) {
+                    expired.add(deadline.voteId);
+                }
+            }
+
+            for (int from = 0; from < expired.size(); from += batchSize) {
+                closeBatch(expired.subList(from, Math.min(from + batchSize, expired.size())));
+            }
+        } catch (Exception e) {
+            log.error("투표 종료 스케줄러 틱 처리 중 오류 발생", e);
+        }
+    }
+
+    private void closeBatch(List<UUID> voteIds) {
         try {
-           // int processedCount = voteService.processFinishedVotes();
-            //log.info("스케줄러 실행 완료. 처리된 투표 수: {}", processedCount);
+            guideGenerationJobService.closeAndEnqueue(voteIds);
         } catch (Exception e) {
-            log.error("스케줄러 실행 중 오류 발생", e);
+            log.error("투표 일괄 종료 실패 - 투표 수: {}", voteIds.size(), e);
+        }
+    }
+
+    /**
+     * 휠에 등록되는 종료 항목 (등록 당시의 종료일을 함께 보관)
+     */
+    private static final class VoteDeadline {
+        private final UUID voteId;
+        private final LocalDate finishedAt;
+
+        private VoteDeadline(UUID voteId, LocalDate finishedAt) {
+            this.voteId = voteId;
+            this.finishedAt = finishedAt;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package pluto.upik.shared.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.vote.service.VoteRankingService;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
+import pluto.upik.domain.voteResponse.service.VoteTallyService;
+
+
+/**
+ * 옵션 집계 정합성 스케줄러
+ * 주기적으로 vote_option_tally를 원본 응답 데이터와 비교해 어긋난 집계를 교정합니다.
+ * 애플리케이션 시작 시에는 모든 투표를 교정한 뒤 메모리 카운터와 인기 순위를 적재해,
+ * 이전 실행에서 기록되지 못한 증가분이 있어도 정확한 값으로 시작하도록 합니다.
+ * 시작 시 교정은 웹 서버가 요청을 받기 전에 실행되므로, 교정 중 커밋된 응답의 증가분이
+ * 이미 교정된 집계 위에 한 번 더 더해지지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VoteTallyScheduler implements SmartInitializingSingleton {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final VoteTallyService voteTallyService;
+    private final VoteCounterService voteCounterService;
+    private final VoteRankingService voteRankingService;
+
+    /**
+     * 모든 빈이 만들어진 뒤, 웹 서버가 시작되기 전에 모든 투표의 집계를 교정합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("시작 시 옵션 집계 교정 시작");
+        try {
+            // 아직 요청을 받지 않으므로 진행 중인 투표까지 모두 교정합니다.
+            reconcile(false);
+        } catch (Exception e) {
+            log.error("시작 시 옵션 집계 교정 중 오류 발생", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCounters() {
+        log.info("시작 시 카운터 적재 시작");
+        try {
+            // 진행 중인 투표의 카운터도 함께 적재됩니다.
+            voteRankingService.rebuild();
+        } catch (Exception e) {
+            log.error("시작 시 카운터 적재 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 메모리 카운터가 관리하지 않는 종료된 투표의 집계를 교정합니다.
+     * 종료된 투표의 카운터는 먼저 기록 후 제거해 교정 대상에 포함시키고, 진행 중인 투표는 카운터의 기록 주기로
+     * 집계가 갱신되므로 건드리지 않습니다.
+     */
+    @Scheduled(initialDelayString = "${upik.vote.tally.reconcile-interval-ms:600000}",
+            fixedDelayString = "${upik.vote.tally.reconcile-interval-ms:600000}")
+    public void reconcileTallies() {
+        log.info("옵션 집계 정합성 검사 시작");
+        try {
+            voteCounterService.evictClosed(voteTallyService.findClosedVoteIds(voteCounterService.getLoadedVoteIds()));
+            reconcile(true);
+        } catch (Exception e) {
+            log.error("옵션 집계 정합성 검사 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 페이지마다 카운터 기록을 멈추고 그 시점에 적재된 투표를 제외해 교정하므로,
+     * 교정 값과 증가분 기록(집계 행 생성 포함)이 같은 행에 겹쳐 쓰이지 않습니다.
+     * 주기 검사는 종료된 투표만 교정하므로 교정 중 커밋되어 교정 값과 증가분에 모두 더해지는 응답이 없습니다.
+     */
+    private void reconcile(boolean closedOnly) {
+        int page = 0;
+        while (nextPage(page, closedOnly)) {
+            page++;
+        }
+        log.info("옵션 집계 정합성 검사 완료 - 검사한 페이지 수: {}", page + 1);
+    }
+
+    private boolean nextPage(int page, boolean closedOnly) {
+        return voteCounterService.callWithLoadedVoteIds(
+                loadedVoteIds -> voteTallyService.reconcilePage(page, PAGE_SIZE, loadedVoteIds, closedOnly));
+    }
+}
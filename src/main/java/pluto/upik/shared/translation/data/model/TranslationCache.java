@@ -0,0 +1,50 @@
+package pluto.upik.shared.translation.data.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 번역 캐시 엔티티
+ * 한 번 번역한 문장을 저장해 두는 번역 메모리로, 같은 원문과 언어 쌍은 다시 번역 API를 호출하지 않습니다.
+ */
+@Entity
+@Table(name = "translation_cache")
+@IdClass(TranslationCacheId.class)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TranslationCache {
+
+    /**
+     * 원문 SHA-256 해시 (복합 키)
+     */
+    @Id
+    @Column(name = "text_hash", length = 64)
+    private String textHash;
+
+    /**
+     * 언어 쌍 (복합 키)
+     */
+    @Id
+    @Column(length = 16)
+    private String langpair;
+
+    /**
+     * 번역된 텍스트
+     */
+    @Column(name = "translated_text", columnDefinition = "TEXT", nullable = false)
+    private String translatedText;
+
+    /**
+     * 생성 일시
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
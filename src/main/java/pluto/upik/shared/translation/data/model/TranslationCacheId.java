@@ -0,0 +1,30 @@
+package pluto.upik.shared.translation.data.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 번역 캐시 엔티티의 복합 키 클래스
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TranslationCacheId implements Serializable {
+
+    /**
+     * 원문 SHA-256 해시 (16진수)
+     */
+    private String textHash;
+
+    /**
+     * 언어 쌍 (예: ko|en)
+     */
+    private String langpair;
+}
@@ -0,0 +1,44 @@
+package pluto.upik.shared.translation.provider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 번역 제공자
+ * 외부 API 없이 부하 테스트를 돌릴 수 있도록 설정한 지연 시간만큼 기다린 뒤 원문에 대상 언어 표시를 붙여 반환합니다.
+ * 실제 번역은 하지 않으므로 운영 환경에서는 사용하지 않으며, 결과는 메모리 캐시에만 남고 번역 캐시 테이블에는 저장되지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "upik.translation.provider", havingValue = "local")
+public class LocalTranslationProvider implements TranslationProvider {
+
+    private final long latencyMs;
+
+    public LocalTranslationProvider(@Value("${upik.translation.local.latency-ms:50}") long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public boolean isSimulated() {
+        return true;
+    }
+
+    @Override
+    public String translate(String text, String sourceLang, String targetLang) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("로컬 번역이 중단되었습니다.", e);
+            }
+        }
+        return "[" + targetLang + "] " + text;
+    }
+}
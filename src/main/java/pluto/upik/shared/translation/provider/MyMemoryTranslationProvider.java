@@ -0,0 +1,100 @@
+package pluto.upik.shared.translation.provider;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * MyMemory 번역 API 제공자
+ * 연결 풀을 공유하는 HTTP 클라이언트로 호출하며, 연결/풀 대기/응답 시간 제한을 두어
+ * 제공자가 느려져도 호출한 요청이 제한 시간 이상 묶이지 않도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "upik.translation.provider", havingValue = "mymemory", matchIfMissing = true)
+@Slf4j
+public class MyMemoryTranslationProvider implements TranslationProvider {
+
+    private final CloseableHttpClient httpClient;
+    private final RestClient restClient;
+
+    public MyMemoryTranslationProvider(
+            @Value("${upik.translation.mymemory.base-url:https://api.mymemory.translated.net}") String baseUrl,
+            @Value("${upik.translation.http.max-connections:20}") int maxConnections,
+            @Value("${upik.translation.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${upik.translation.http.response-timeout-ms:3000}") long responseTimeoutMs,
+            @Value("${upik.translation.http.pool-acquire-timeout-ms:500}") long poolAcquireTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .build();
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "mymemory";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String translate(String text, String sourceLang, String targetLang) {
+        Map<String, Object> response = restClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/get")
+                        .queryParam("q", text)
+                        .queryParam("langpair", sourceLang + "|" + targetLang)
+                        .build())
+                .retrieve()
+                .body(Map.class);
+
+        // 할당량 초과나 오류도 HTTP 200에 안내 문구를 translatedText로 담아 돌려주므로 responseStatus까지 확인합니다.
+        // 예외를 던지면 호출한 쪽이 원문으로 대체하고 결과를 캐시하지 않습니다.
+        Object responseStatus = response != null ? response.get("responseStatus") : null;
+        if (!"200".equals(String.valueOf(responseStatus))) {
+            throw new IllegalStateException("번역 API 오류 응답 - 상태: " + responseStatus
+                    + ", 내용: " + (response != null ? response.get("responseDetails") : null));
+        }
+        if (response.get("responseData") instanceof Map<?, ?> responseData
+                && responseData.get("translatedText") instanceof String translatedText
+                && !translatedText.isBlank()) {
+            log.debug("번역 완료: {}", translatedText);
+            return translatedText;
+        }
+        throw new IllegalStateException("번역 응답이 올바르지 않습니다: " + response);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,95 @@
+package pluto.upik.shared.translation.provider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 번역 제공자 서킷 브레이커
+ * 연속 실패가 기준 횟수에 이르면 일정 시간 동안 호출을 막아, 제공자가 느리거나 죽었을 때
+ * 요청마다 제한 시간까지 기다리지 않고 바로 원문으로 대체되도록 합니다.
+ * 차단 시간이 지나면 한 번의 시험 호출만 허용하고, 성공하면 다시 열고 실패하면 다시 차단합니다.
+ */
+@Component
+@Slf4j
+public class TranslationCircuitBreaker {
+
+    /**
+     * 서킷 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    @Autowired
+    public TranslationCircuitBreaker(
+            @Value("${upik.translation.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${upik.translation.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        this(failureThreshold, openDurationMs, System::currentTimeMillis);
+    }
+
+    TranslationCircuitBreaker(int failureThreshold, long openDurationMs, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되는지 확인합니다.
+     * true를 받은 호출자는 결과에 따라 반드시 onSuccess 또는 onFailure를 호출해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (trialInFlight) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("번역 제공자 복구 - 서킷을 닫습니다.");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("번역 제공자 연속 실패 {}회 - {}ms 동안 호출을 차단합니다.", consecutiveFailures, openDurationMs);
+            }
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
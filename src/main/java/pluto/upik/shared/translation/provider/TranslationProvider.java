@@ -0,0 +1,33 @@
+package pluto.upik.shared.translation.provider;
+
+/**
+ * 번역 제공자
+ * 외부 번역 API나 테스트용 로컬 구현처럼 실제 번역을 수행하는 구현체의 공통 인터페이스입니다.
+ * upik.translation.provider 설정으로 사용할 구현체를 고릅니다.
+ */
+public interface TranslationProvider {
+
+    /**
+     * 제공자 이름 (로그와 설정 값에 사용)
+     */
+    String getName();
+
+    /**
+     * 실제 번역을 하지 않는 제공자인지 여부
+     * true이면 결과가 운영 번역과 섞이지 않도록 translation_cache 테이블을 읽거나 쓰지 않습니다.
+     */
+    default boolean isSimulated() {
+        return false;
+    }
+
+    /**
+     * 텍스트를 번역합니다.
+     * 실패하면 예외를 던지며, 원문으로 대체하는 처리는 호출하는 쪽에서 합니다.
+     *
+     * @param text 번역할 텍스트
+     * @param sourceLang 원본 언어 코드
+     * @param targetLang 대상 언어 코드
+     * @return 번역된 텍스트
+     */
+    String translate(String text, String sourceLang, String targetLang);
+}
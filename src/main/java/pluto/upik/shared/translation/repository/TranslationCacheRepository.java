@@ -0,0 +1,11 @@
+package pluto.upik.shared.translation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import pluto.upik.shared.translation.data.model.TranslationCache;
+import pluto.upik.shared.translation.data.model.TranslationCacheId;
+
+/**
+ * 번역 캐시 레포지토리
+ */
+public interface TranslationCacheRepository extends JpaRepository<TranslationCache, TranslationCacheId> {
+}
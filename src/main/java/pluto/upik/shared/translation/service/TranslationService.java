@@ -1,25 +1,63 @@
 package pluto.upik.shared.translation.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
-import org.springframework.http.MediaType;
+import pluto.upik.shared.translation.data.model.TranslationCache;
+import pluto.upik.shared.translation.data.model.TranslationCacheId;
+import pluto.upik.shared.translation.provider.TranslationCircuitBreaker;
+import pluto.upik.shared.translation.provider.TranslationProvider;
+import pluto.upik.shared.translation.repository.TranslationCacheRepository;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * 번역 서비스
  * 한국어와 영어 간의 번역 기능을 제공합니다.
+ * 번역 결과는 메모리 캐시와 translation_cache 테이블의 2단계 번역 메모리에 저장되어,
+ * 같은 원문은 다시 번역 API를 호출하지 않습니다.
+ * 이미 대상 언어의 문자로만 이루어진 텍스트는 번역하지 않고 그대로 반환합니다.
  */
 @Service
 @Slf4j
 public class TranslationService {
 
-    private final RestClient restClient;
+    private static final HexFormat HEX = HexFormat.of();
+    private static final String BATCH_DELIMITER_TOKEN = "|||";
+    private static final String BATCH_DELIMITER = " " + BATCH_DELIMITER_TOKEN + " ";
+    private static final Pattern BATCH_SPLIT_PATTERN = Pattern.compile("\\s*\\|\\|\\|\\s*");
+    // 번역 API의 요청 길이 제한(500자)보다 여유 있게 묶습니다.
+    private static final int BATCH_MAX_LENGTH = 450;
 
-    public TranslationService() {
-        this.restClient = RestClient.builder()
-                .baseUrl("https://api.mymemory.translated.net")
+    private final TranslationProvider translationProvider;
+    private final TranslationCircuitBreaker circuitBreaker;
+    private final TranslationCacheRepository translationCacheRepository;
+    private final Cache<TranslationCacheId, String> memoryCache;
+    private final boolean persistent;
+
+    public TranslationService(TranslationProvider translationProvider,
+                              TranslationCircuitBreaker circuitBreaker,
+                              TranslationCacheRepository translationCacheRepository,
+                              @Value("${upik.translation.cache.max-entries:10000}") long maxEntries) {
+        this.translationProvider = translationProvider;
+        this.circuitBreaker = circuitBreaker;
+        this.translationCacheRepository = translationCacheRepository;
+        // 로컬 제공자처럼 실제 번역을 하지 않는 제공자의 결과는 다른 인스턴스와 공유하는 테이블에 남기지 않습니다.
+        this.persistent = !translationProvider.isSimulated();
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
                 .build();
     }
 
@@ -59,6 +97,7 @@ public class TranslationService {
 
     /**
      * 텍스트를 지정된 언어로 번역합니다.
+     * 대상 언어의 문자로만 이루어진 텍스트, 메모리 캐시, 번역 캐시 테이블 순으로 확인하고 모두 없을 때만 API를 호출합니다.
      *
      * @param text 번역할 텍스트
      * @param sourceLang 원본 언어 코드
@@ -66,30 +105,212 @@ public class TranslationService {
      * @return 번역된 텍스트
      */
     private String translate(String text, String sourceLang, String targetLang) {
-        try {
-            Map<String, Object> response = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/get")
-                            .queryParam("q", text)
-                            .queryParam("langpair", sourceLang + "|" + targetLang)
-                            .build())
-                    .retrieve()
-                    .body(Map.class);
-
-            if (response != null && response.containsKey("responseData")) {
-                Map<String, Object> responseData = (Map<String, Object>) response.get("responseData");
-                if (responseData != null && responseData.containsKey("translatedText")) {
-                    String translatedText = (String) responseData.get("translatedText");
-                    log.debug("번역 완료: {}", translatedText);
-                    return translatedText;
-                }
+        if (text == null || text.isBlank() || isAlreadyInTargetScript(text, targetLang)) {
+            return text;
+        }
+
+        TranslationCacheId cacheId = new TranslationCacheId(hash(text), sourceLang + "|" + targetLang);
+        String cached = findCached(cacheId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String translatedText = requestTranslation(text, sourceLang, targetLang);
+        if (translatedText == null) {
+            return text; // 번역 실패 시 원본 텍스트 반환 (실패 결과는 캐시하지 않습니다)
+        }
+        remember(cacheId, translatedText);
+        return translatedText;
+    }
+
+    /**
+     * 여러 텍스트를 구분자로 묶어 번역 요청 한 번으로 번역합니다.
+     * 캐시에 있거나 번역이 필요 없는 텍스트는 요청에서 빼고, 나머지를 요청 길이 제한 안에서 묶습니다.
+     * 번역 결과를 나눈 개수가 맞지 않으면 해당 묶음만 항목별로 번역하고,
+     * 요청 자체가 실패하면 단건 번역과 마찬가지로 원문을 그대로 사용합니다.
+     *
+     * @param texts 번역할 텍스트 목록
+     * @param langpair 언어 쌍 (예: en|ko)
+     * @return 입력과 같은 순서의 번역된 텍스트 목록
+     */
+    public List<String> translateBatch(List<String> texts, String langpair) {
+        String[] langs = langpair.split("\\|");
+        if (langs.length != 2) {
+            throw new IllegalArgumentException("잘못된 언어 쌍입니다: " + langpair);
+        }
+        String sourceLang = langs[0];
+        String targetLang = langs[1];
+
+        List<String> results = new ArrayList<>(texts);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.isBlank() || isAlreadyInTargetScript(text, targetLang)) {
+                continue;
+            }
+
+            String cached = findCached(new TranslationCacheId(hash(text), langpair));
+            if (cached != null) {
+                results.set(i, cached);
+            } else if (text.contains(BATCH_DELIMITER_TOKEN) || text.length() > BATCH_MAX_LENGTH) {
+                // 구분자와 겹치거나 혼자서도 묶음 길이를 넘는 텍스트는 따로 번역합니다.
+                results.set(i, translate(text, sourceLang, targetLang));
+            } else {
+                pending.add(i);
+            }
+        }
+
+        List<Integer> group = new ArrayList<>();
+        int groupLength = 0;
+        for (int index : pending) {
+            int length = texts.get(index).length() + BATCH_DELIMITER.length();
+            if (!group.isEmpty() && groupLength + length > BATCH_MAX_LENGTH) {
+                translateGroup(texts, group, sourceLang, targetLang, results);
+                group = new ArrayList<>();
+                groupLength = 0;
             }
-            
-            log.error("번역 응답이 올바르지 않습니다: {}", response);
-            return text; // 번역 실패 시 원본 텍스트 반환
+            group.add(index);
+            groupLength += length;
+        }
+        if (!group.isEmpty()) {
+            translateGroup(texts, group, sourceLang, targetLang, results);
+        }
+        return results;
+    }
+
+    private void translateGroup(List<String> texts, List<Integer> group, String sourceLang, String targetLang,
+                                List<String> results) {
+        if (group.size() == 1) {
+            int index = group.get(0);
+            results.set(index, translate(texts.get(index), sourceLang, targetLang));
+            return;
+        }
+
+        String packed = group.stream().map(texts::get).collect(Collectors.joining(BATCH_DELIMITER));
+        String translated = requestTranslation(packed, sourceLang, targetLang);
+        if (translated == null) {
+            return; // 번역 실패 시 원본 텍스트 유지
+        }
+
+        String[] parts = BATCH_SPLIT_PATTERN.split(translated.trim(), -1);
+        if (parts.length != group.size() || Arrays.stream(parts).anyMatch(String::isBlank)) {
+            log.warn("묶음 번역 결과를 나눌 수 없어 항목별로 번역합니다 - 요청 {}개, 결과 {}개", group.size(), parts.length);
+            group.forEach(index -> results.set(index, translate(texts.get(index), sourceLang, targetLang)));
+            return;
+        }
+
+        String langpair = sourceLang + "|" + targetLang;
+        for (int i = 0; i < group.size(); i++) {
+            int index = group.get(i);
+            String translatedText = parts[i].trim();
+            remember(new TranslationCacheId(hash(texts.get(index)), langpair), translatedText);
+            results.set(index, translatedText);
+        }
+    }
+
+    /**
+     * 메모리 캐시, 번역 캐시 테이블 순으로 번역 결과를 찾습니다.
+     * 테이블에서 찾은 결과는 메모리 캐시에 올립니다.
+     */
+    private String findCached(TranslationCacheId cacheId) {
+        String cached = memoryCache.getIfPresent(cacheId);
+        if (cached != null) {
+            return cached;
+        }
+
+        cached = findStored(cacheId);
+        if (cached != null) {
+            memoryCache.put(cacheId, cached);
+        }
+        return cached;
+    }
+
+    private void remember(TranslationCacheId cacheId, String translatedText) {
+        memoryCache.put(cacheId, translatedText);
+        store(cacheId, translatedText);
+    }
+
+    /**
+     * 텍스트가 이미 대상 언어의 문자로만 이루어져 있는지 확인합니다.
+     * 영어로 번역할 때는 한글이 없으면, 한국어로 번역할 때는 라틴 문자가 없으면 번역할 필요가 없습니다.
+     */
+    static boolean isAlreadyInTargetScript(String text, String targetLang) {
+        if ("en".equals(targetLang)) {
+            return text.codePoints().noneMatch(TranslationService::isHangul);
+        }
+        if ("ko".equals(targetLang)) {
+            return text.codePoints().noneMatch(codePoint ->
+                    Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.LATIN);
+        }
+        return false;
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+
+    private String findStored(TranslationCacheId cacheId) {
+        if (!persistent) {
+            return null;
+        }
+        try {
+            return translationCacheRepository.findById(cacheId)
+                    .map(TranslationCache::getTranslatedText)
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("번역 캐시 조회 실패 - {}", cacheId, e);
+            return null;
+        }
+    }
+
+    private void store(TranslationCacheId cacheId, String translatedText) {
+        if (!persistent) {
+            return;
+        }
+        try {
+            translationCacheRepository.save(TranslationCache.builder()
+                    .textHash(cacheId.getTextHash())
+                    .langpair(cacheId.getLangpair())
+                    .translatedText(translatedText)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 원문을 동시에 번역한 다른 요청이 먼저 저장했습니다.
+            log.debug("번역 캐시가 이미 저장되어 있습니다 - {}", cacheId);
+        } catch (Exception e) {
+            log.warn("번역 캐시 저장 실패 - {}", cacheId, e);
+        }
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 번역 제공자를 호출합니다.
+     * 서킷이 차단된 동안에는 제공자를 호출하지 않고 바로 실패로 처리합니다.
+     *
+     * @return 번역된 텍스트 (실패 시 null)
+     */
+    String requestTranslation(String text, String sourceLang, String targetLang) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.debug("번역 서킷 차단 중 - 원문을 그대로 사용합니다.");
+            return null;
+        }
+
+        try {
+            String translatedText = translationProvider.translate(text, sourceLang, targetLang);
+            circuitBreaker.onSuccess();
+            return translatedText;
         } catch (Exception e) {
-            log.error("번역 API 호출 중 오류 발생", e);
-            return text; // 번역 실패 시 원본 텍스트 반환
+            circuitBreaker.onFailure();
+            log.error("번역 제공자({}) 호출 중 오류 발생", translationProvider.getName(), e);
+            return null;
         }
     }
-}
\ No newline at end of file
+}
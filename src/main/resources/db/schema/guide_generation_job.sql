@@ -0,0 +1,17 @@
+-- 가이드 생성 작업 큐 테이블 (GuideGenerationJob)
+-- 스키마를 Hibernate가 만들지 않으므로 배포 전에 직접 적용해야 합니다.
+-- 작업 점유에 SELECT ... FOR UPDATE SKIP LOCKED를 사용하므로 MariaDB 10.6 이상이 필요합니다.
+CREATE TABLE IF NOT EXISTS guide_generation_job (
+    id              UUID         NOT NULL,
+    vote_id         UUID         NOT NULL,
+    guide_type      VARCHAR(50),
+    status          ENUM ('PENDING', 'RUNNING', 'DONE', 'FAILED') NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    locked_until    DATETIME(6),
+    last_error      TEXT,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_guide_generation_job_vote_id UNIQUE (vote_id),
+    INDEX idx_guide_generation_job_status_next_attempt (status, next_attempt_at)
+);
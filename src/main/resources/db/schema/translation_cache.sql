@@ -0,0 +1,10 @@
+-- 번역 결과 영구 캐시 테이블 (TranslationCache)
+-- 스키마를 Hibernate가 만들지 않으므로 배포 전에 직접 적용해야 합니다.
+-- 원문 SHA-256 해시와 언어 쌍이 복합 기본 키입니다.
+CREATE TABLE IF NOT EXISTS translation_cache (
+    text_hash       VARCHAR(64) NOT NULL,
+    langpair        VARCHAR(16) NOT NULL,
+    translated_text TEXT        NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (text_hash, langpair)
+);
@@ -0,0 +1,10 @@
+-- 옵션별 응답 수 집계 테이블 (VoteOptionTally)
+-- 스키마를 Hibernate가 만들지 않으므로 배포 전에 직접 적용해야 합니다.
+-- 옵션당 집계 행은 하나뿐이어야 하므로 option_id가 기본 키(유일 키)입니다.
+CREATE TABLE IF NOT EXISTS vote_option_tally (
+    option_id      BINARY(16) NOT NULL,
+    vote_id        UUID       NOT NULL,
+    response_count BIGINT     NOT NULL DEFAULT 0,
+    PRIMARY KEY (option_id),
+    INDEX idx_vote_option_tally_vote_id (vote_id)
+);
@@ -0,0 +1,19 @@
+-- 사용자당 투표 1회 응답 유니크 제약 (VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT)
+-- 스키마를 Hibernate가 만들지 않으므로 배포 전에 직접 적용해야 합니다.
+-- 중복 응답은 사전 조회 없이 이 제약으로만 막으므로, 적용하지 않으면 같은 사용자의 중복 응답이 그대로 저장됩니다.
+
+-- 1. 이미 쌓인 중복 응답을 정리합니다. (user_id, vote_id)마다 가장 먼저 저장된 응답 하나만 남깁니다.
+--    날짜가 같으면 id가 작은 응답을 남깁니다.
+DELETE duplicate
+FROM vote_response duplicate
+         JOIN vote_response kept
+              ON kept.user_id = duplicate.user_id
+                  AND kept.vote_id = duplicate.vote_id
+                  AND (kept.created_at < duplicate.created_at
+                      OR (kept.created_at = duplicate.created_at AND kept.id < duplicate.id));
+
+-- 2. 유니크 인덱스를 추가합니다. 중복 응답 시 이 이름으로 위반이 보고됩니다.
+ALTER TABLE vote_response
+    ADD UNIQUE INDEX IF NOT EXISTS uk_vote_response_user_vote (user_id, vote_id);
+
+-- 삭제된 중복 응답만큼 어긋난 vote_option_tally는 애플리케이션 시작 시 집계 교정에서 원본 응답 수로 맞춰집니다.
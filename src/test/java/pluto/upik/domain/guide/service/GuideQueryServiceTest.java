@@ -1,5 +1,6 @@
 package pluto.upik.domain.guide.service;
 
+import graphql.relay.Connection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import pluto.upik.domain.guide.data.DTO.GuideDetailResponse;
 import pluto.upik.domain.guide.data.DTO.GuideResponse;
 import pluto.upik.domain.guide.data.model.Guide;
@@ -14,6 +16,7 @@ import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
+import pluto.upik.shared.pagination.CursorPagination;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -160,4 +163,47 @@ class GuideQueryServiceTest {
         assertEquals("가이드 상세 조회 중 오류가 발생했습니다.", exception.getMessage());
         verify(guideRepository).findById(guideId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카테고리별 가이드 커서 조회 - 다음 페이지 존재 테스트")
+    void findByCategoryConnection_HasNextPage() {
+        // given
+        Guide olderGuide = new Guide();
+        olderGuide.setId(UUID.randomUUID());
+        olderGuide.setTitle("이전 가이드");
+        olderGuide.setContent("이전 가이드 내용");
+        olderGuide.setCreatedAt(LocalDate.now().minusDays(1));
+        olderGuide.setLike(0L);
+        when(guideRepository.findFirstPageByCategory(category, Limit.of(2)))
+                .thenReturn(Arrays.asList(testGuide, olderGuide));
+
+        // when
+        Connection<GuideResponse> result = guideQueryService.findByCategory(category, 1, null);
+
+        // then
+        assertEquals(1, result.getEdges().size());
+        assertEquals(guideId, result.getEdges().get(0).getNode().getId());
+        assertTrue(result.getPageInfo().isHasNextPage());
+        assertFalse(result.getPageInfo().isHasPreviousPage());
+        assertEquals(CursorPagination.encode(testGuide.getCreatedAt(), guideId),
+                result.getPageInfo().getEndCursor().getValue());
+    }
+
+    @Test
+    @DisplayName("카테고리별 가이드 커서 조회 - 커서 이후 조회 테스트")
+    void findByCategoryConnection_After() {
+        // given
+        String after = CursorPagination.encode(testGuide.getCreatedAt(), guideId);
+        when(guideRepository.findPageByCategoryAfter(category, testGuide.getCreatedAt(), guideId, Limit.of(21)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        Connection<GuideResponse> result = guideQueryService.findByCategory(category, null, after);
+
+        // then
+        assertTrue(result.getEdges().isEmpty());
+        assertFalse(result.getPageInfo().isHasNextPage());
+        assertTrue(result.getPageInfo().isHasPreviousPage());
+        assertNull(result.getPageInfo().getEndCursor());
+    }
+}
@@ -0,0 +1,34 @@
+package pluto.upik.domain.option.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OptionGeneratorServiceImpl 클래스에 대한 단위 테스트
+ */
+class OptionGeneratorServiceImplTest {
+
+    @Test
+    @DisplayName("모든 선택지가 번역되었으면 번역된 것으로 보는지 테스트")
+    void isTranslated_AllTranslated() {
+        // when
+        boolean translated = OptionGeneratorServiceImpl.isTranslated(List.of("Pizza", "Sushi"), List.of("피자", "초밥"));
+
+        // then
+        assertTrue(translated);
+    }
+
+    @Test
+    @DisplayName("원문으로 남은 선택지가 있으면 번역되지 않은 것으로 보는지 테스트")
+    void isTranslated_SourceTextFallback() {
+        // when
+        boolean translated = OptionGeneratorServiceImpl.isTranslated(List.of("Pizza", "Sushi"), List.of("피자", "Sushi"));
+
+        // then
+        assertFalse(translated);
+    }
+}
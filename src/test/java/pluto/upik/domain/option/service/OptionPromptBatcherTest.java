@@ -0,0 +1,108 @@
+package pluto.upik.domain.option.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import pluto.upik.shared.ai.config.ChatAiService;
+import pluto.upik.shared.ai.service.AiCallScheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * OptionPromptBatcher 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OptionPromptBatcherTest {
+
+    @Mock
+    private ChatAiService chatAiService;
+
+    private OptionPromptBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new OptionPromptBatcher(chatAiService);
+        ReflectionTestUtils.setField(batcher, "enabled", true);
+        ReflectionTestUtils.setField(batcher, "windowMs", 5000L);
+        ReflectionTestUtils.setField(batcher, "maxSize", 2);
+    }
+
+    @Test
+    @DisplayName("묶음 응답을 구역별 선택지로 나누는지 테스트")
+    void parseSections() {
+        // given
+        String aiResponse = "### 1\n1. Pizza\n2. Sushi\n3. What?\n\n### 2\n1. Seoul\n2. Busan\n";
+
+        // when
+        Map<Integer, List<String>> sections = OptionPromptBatcher.parseSections(aiResponse);
+
+        // then
+        assertEquals(List.of("Pizza", "Sushi"), sections.get(1));
+        assertEquals(List.of("Seoul", "Busan"), sections.get(2));
+    }
+
+    @Test
+    @DisplayName("모든 제목의 선택지가 충분할 때만 완전한 응답으로 보는지 테스트")
+    void isComplete() {
+        // given
+        Map<Integer, List<String>> sections = OptionPromptBatcher.parseSections("### 1\n1. Pizza\n2. Sushi\n### 2\n1. Seoul\n");
+
+        // when
+        boolean firstOnly = OptionPromptBatcher.isComplete(sections, List.of(new OptionPromptBatcher.Entry("Favorite food", 2)));
+        boolean both = OptionPromptBatcher.isComplete(sections, List.of(
+                new OptionPromptBatcher.Entry("Favorite food", 2),
+                new OptionPromptBatcher.Entry("Favorite city", 2)));
+
+        // then
+        assertTrue(firstOnly);
+        assertFalse(both);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청을 한 번의 호출로 묶고, 선택지가 부족한 제목은 빈 결과를 돌려주는지 테스트")
+    void generate_BatchesAndFallsBackPerTitle() throws Exception {
+        // given
+        when(chatAiService.askToDeepSeekAI(anyString(), eq(AiCallScheduler.Lane.INTERACTIVE), any()))
+                .thenReturn("### 1\n1. Pizza\n2. Sushi\n### 2\n1. Seoul\n");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<Optional<List<String>>> food = executor.submit(() -> batcher.generate("Favorite food", 2));
+        Thread.sleep(100);
+        Future<Optional<List<String>>> city = executor.submit(() -> batcher.generate("Favorite city", 2));
+
+        // then
+        assertEquals(Optional.of(List.of("Pizza", "Sushi")), food.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.empty(), city.get(5, TimeUnit.SECONDS));
+        verify(chatAiService, times(1)).askToDeepSeekAI(anyString(), eq(AiCallScheduler.Lane.INTERACTIVE), any());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("묶을 요청이 없으면 AI를 호출하지 않고 빈 결과를 돌려주는지 테스트")
+    void generate_SingleRequestFallsBack() throws Exception {
+        // given
+        ReflectionTestUtils.setField(batcher, "windowMs", 10L);
+
+        // when
+        Optional<List<String>> result = batcher.generate("Favorite food", 2);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(chatAiService);
+    }
+}
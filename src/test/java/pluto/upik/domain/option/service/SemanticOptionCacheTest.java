@@ -0,0 +1,91 @@
+package pluto.upik.domain.option.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SemanticOptionCache 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SemanticOptionCacheTest {
+
+    @Mock
+    private EmbeddingModel embeddingModel;
+
+    @Mock
+    private ObjectProvider<EmbeddingModel> embeddingModelProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SemanticOptionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(embeddingModelProvider.getIfAvailable()).thenReturn(embeddingModel);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SemanticOptionCache(embeddingModelProvider, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "similarityThreshold", 0.9);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60000L);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("유사도가 기준 이상인 제목의 선택지를 재사용하고 아낀 시간을 기록하는지 테스트")
+    void lookup_ReusesSimilarTitle() {
+        // given
+        when(embeddingModel.embed("점심 뭐 먹지?")).thenReturn(new float[]{1f, 0f, 0.1f});
+        when(embeddingModel.embed("점심 메뉴 추천")).thenReturn(new float[]{1f, 0.05f, 0.1f});
+        cache.lookup("점심 뭐 먹지?", 3).store("점심 뭐 먹지?", List.of("피자", "국밥", "초밥"), 1200);
+
+        // when
+        SemanticOptionCache.Lookup lookup = cache.lookup("점심 메뉴 추천", 3);
+
+        // then
+        assertEquals(Optional.of(List.of("피자", "국밥", "초밥")), lookup.getOptions());
+        assertEquals(1.0, meterRegistry.get("upik.option.semantic-cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1200.0, meterRegistry.get("upik.option.semantic-cache.saved-time").counter().count());
+    }
+
+    @Test
+    @DisplayName("유사도가 낮거나 선택지 개수가 다르면 재사용하지 않는지 테스트")
+    void lookup_MissesDissimilarTitleOrDifferentCount() {
+        // given
+        when(embeddingModel.embed("점심 뭐 먹지?")).thenReturn(new float[]{1f, 0f, 0f});
+        when(embeddingModel.embed("여행지 추천")).thenReturn(new float[]{0f, 1f, 0f});
+        cache.lookup("점심 뭐 먹지?", 3).store("점심 뭐 먹지?", List.of("피자", "국밥", "초밥"), 1200);
+
+        // when & then
+        assertTrue(cache.lookup("여행지 추천", 3).getOptions().isEmpty());
+        assertTrue(cache.lookup("점심 뭐 먹지?", 4).getOptions().isEmpty());
+    }
+
+    @Test
+    @DisplayName("임베딩에 실패하면 캐시 없이 진행하도록 빈 결과를 돌려주는지 테스트")
+    void lookup_EmbeddingFailure() {
+        // given
+        when(embeddingModel.embed(anyString())).thenThrow(new IllegalStateException("연결 실패"));
+
+        // when
+        SemanticOptionCache.Lookup lookup = cache.lookup("점심 뭐 먹지?", 3);
+        lookup.store("점심 뭐 먹지?", List.of("피자"), 100);
+
+        // then
+        assertTrue(lookup.getOptions().isEmpty());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,53 @@
+package pluto.upik.domain.report.resolver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.domain.report.data.DTO.ReportResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportFieldResolver 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportFieldResolverTest {
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    @InjectMocks
+    private ReportFieldResolver reportFieldResolver;
+
+    @Test
+    @DisplayName("신고 대상 유형 일괄 판별 테스트")
+    void targetType_ResolvesInOneQuery() {
+        // given
+        UUID guideId = UUID.randomUUID();
+        UUID voteId = UUID.randomUUID();
+        List<ReportResponse> reports = List.of(
+                new ReportResponse(UUID.randomUUID(), guideId, "사유1", null, LocalDate.now()),
+                new ReportResponse(UUID.randomUUID(), voteId, "사유2", null, LocalDate.now()),
+                new ReportResponse(UUID.randomUUID(), guideId, "사유3", null, LocalDate.now())
+        );
+        when(guideRepository.findExistingIds(anyCollection())).thenReturn(List.of(guideId));
+
+        // when
+        List<String> result = reportFieldResolver.targetType(reports);
+
+        // then
+        assertEquals(List.of("guide", "vote", "guide"), result);
+        verify(guideRepository, times(1)).findExistingIds(anyCollection());
+        verify(guideRepository, never()).existsById(any());
+    }
+}
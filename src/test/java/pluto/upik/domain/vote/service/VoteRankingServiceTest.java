@@ -0,0 +1,135 @@
+package pluto.upik.domain.vote.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteOpenedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteRankingService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteRankingServiceTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private VoteCounterService voteCounterService;
+
+    @InjectMocks
+    private VoteRankingService voteRankingService;
+
+    private UUID firstVoteId;
+    private UUID secondVoteId;
+    private UUID thirdVoteId;
+
+    @BeforeEach
+    void setUp() {
+        firstVoteId = UUID.randomUUID();
+        secondVoteId = UUID.randomUUID();
+        thirdVoteId = UUID.randomUUID();
+
+        when(voteRepository.findByStatus(Vote.Status.OPEN)).thenReturn(List.of(
+                Vote.builder().id(firstVoteId).status(Vote.Status.OPEN).build(),
+                Vote.builder().id(secondVoteId).status(Vote.Status.OPEN).build(),
+                Vote.builder().id(thirdVoteId).status(Vote.Status.OPEN).build()
+        ));
+        when(voteCounterService.getVoteResponseCount(firstVoteId)).thenReturn(5L);
+        when(voteCounterService.getVoteResponseCount(secondVoteId)).thenReturn(1L);
+        when(voteCounterService.getVoteResponseCount(thirdVoteId)).thenReturn(3L);
+
+        voteRankingService.rebuild();
+    }
+
+    @Test
+    @DisplayName("응답 수 기준 최다/최소 투표 조회 테스트")
+    void getMostAndLeastPopular() {
+        // when
+        Optional<UUID> mostPopular = voteRankingService.getMostPopular();
+        Optional<UUID> leastPopular = voteRankingService.getLeastPopular();
+
+        // then
+        assertEquals(Optional.of(firstVoteId), mostPopular);
+        assertEquals(Optional.of(secondVoteId), leastPopular);
+    }
+
+    @Test
+    @DisplayName("응답 이벤트 발생 시 순위 갱신 테스트")
+    void onVoteResponseCreated_UpdatesRanking() {
+        // given
+        when(voteCounterService.getVoteResponseCount(secondVoteId)).thenReturn(10L);
+
+        // when
+        voteRankingService.onVoteResponseCreated(new VoteResponseCreatedEvent(secondVoteId, UUID.randomUUID()));
+
+        // then
+        assertEquals(List.of(secondVoteId, firstVoteId, thirdVoteId), voteRankingService.getTopOpenVotes(10));
+        assertEquals(Optional.of(thirdVoteId), voteRankingService.getLeastPopular());
+    }
+
+    @Test
+    @DisplayName("상위 N개 투표 조회 테스트")
+    void getTopOpenVotes_Limit() {
+        // when
+        List<UUID> result = voteRankingService.getTopOpenVotes(2);
+
+        // then
+        assertEquals(List.of(firstVoteId, thirdVoteId), result);
+    }
+
+    @Test
+    @DisplayName("음수 개수로 조회하면 예외 없이 빈 목록을 반환하는지 테스트")
+    void getTopOpenVotes_NegativeLimit() {
+        // when
+        List<UUID> result = voteRankingService.getTopOpenVotes(-1);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("종료된 투표는 순위에서 제외 테스트")
+    void onVoteClosed_RemovesVote() {
+        // when
+        voteRankingService.onVoteClosed(new VoteClosedEvent(firstVoteId));
+        voteRankingService.onVoteResponseCreated(new VoteResponseCreatedEvent(firstVoteId, UUID.randomUUID()));
+
+        // then
+        assertEquals(Optional.of(thirdVoteId), voteRankingService.getMostPopular());
+        assertFalse(voteRankingService.getTopOpenVotes(10).contains(firstVoteId));
+    }
+
+    @Test
+    @DisplayName("새 투표 생성 시 순위에 추가 테스트")
+    void onVoteOpened_AddsVote() {
+        // given
+        UUID newVoteId = UUID.randomUUID();
+        when(voteCounterService.getVoteResponseCount(newVoteId)).thenReturn(0L);
+
+        // when
+        voteRankingService.onVoteOpened(new VoteOpenedEvent(newVoteId, "새 투표", LocalDate.now().plusDays(7), Map.of()));
+
+        // then
+        assertEquals(Optional.of(newVoteId), voteRankingService.getLeastPopular());
+        assertEquals(4, voteRankingService.getTopOpenVotes(10).size());
+    }
+}
@@ -0,0 +1,85 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.voteResponse.data.DTO.VoteTallyDelta;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteCounterService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteCounterServiceTest {
+
+    @Mock
+    private VoteTallyService voteTallyService;
+
+    @InjectMocks
+    private VoteCounterService voteCounterService;
+
+    @Captor
+    private ArgumentCaptor<List<VoteTallyDelta>> deltasCaptor;
+
+    @Test
+    @DisplayName("종료된 투표의 카운터를 증가분 기록 후 제거하는지 테스트")
+    void evictClosed_FlushesBeforeEvicting() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        when(voteTallyService.getTallies(List.of(voteId))).thenReturn(List.of(tally(voteId, optionId, 2L)));
+        voteCounterService.onVoteResponseCreated(new VoteResponseCreatedEvent(voteId, optionId));
+
+        // when
+        voteCounterService.evictClosed(Set.of(voteId));
+
+        // then
+        verify(voteTallyService).applyDeltas(deltasCaptor.capture());
+        assertEquals(1, deltasCaptor.getValue().size());
+        assertEquals(optionId, deltasCaptor.getValue().get(0).getOptionId());
+        assertEquals(1L, deltasCaptor.getValue().get(0).getDelta());
+        assertTrue(voteCounterService.getLoadedVoteIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("제거된 투표를 다시 조회하면 집계 테이블에서 다시 적재하는지 테스트")
+    void getVoteResponseCount_ReloadsAfterEvict() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        when(voteTallyService.getTallies(List.of(voteId)))
+                .thenReturn(List.of(tally(voteId, optionId, 2L)))
+                .thenReturn(List.of(tally(voteId, optionId, 5L)));
+        voteCounterService.getVoteResponseCount(voteId);
+        voteCounterService.evict(voteId);
+
+        // when
+        long count = voteCounterService.getVoteResponseCount(voteId);
+
+        // then
+        assertEquals(5L, count);
+        verify(voteTallyService, times(2)).getTallies(anyCollection());
+    }
+
+    private static VoteOptionTally tally(UUID voteId, UUID optionId, long responseCount) {
+        return VoteOptionTally.builder()
+                .voteId(voteId)
+                .optionId(optionId)
+                .responseCount(responseCount)
+                .build();
+    }
+}
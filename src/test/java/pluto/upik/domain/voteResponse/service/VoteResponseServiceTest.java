@@ -0,0 +1,194 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.user.repository.UserRepository;
+import pluto.upik.domain.vote.data.DTO.OpenVote;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.OpenVoteRegistry;
+import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteResponseService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteResponseServiceTest {
+
+    @Mock
+    private VoteResponseRepository voteResponseRepository;
+
+    @Mock
+    private OptionRepository optionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private OpenVoteRegistry openVoteRegistry;
+
+    @Mock
+    private VoteCounterService voteCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private VoteResponseService voteResponseService;
+
+    private UUID userId;
+    private Vote vote;
+    private Option option;
+    private CreateVoteResponseInput input;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        vote = Vote.builder().id(UUID.randomUUID()).question("테스트 투표").status(Vote.Status.OPEN).build();
+        option = Option.builder().id(UUID.randomUUID()).vote(vote).content("옵션1").build();
+
+        input = new CreateVoteResponseInput();
+        input.setVoteId(vote.getId());
+        input.setOptionId(option.getId());
+    }
+
+    @Test
+    @DisplayName("레지스트리에 있는 투표는 조회 없이 응답 저장 테스트")
+    void createVoteResponse_RegistryHit() {
+        // given
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.of(new OpenVote(
+                vote.getId(), "테스트 투표", LocalDate.now().plusDays(3), Map.of(option.getId(), "옵션1"))));
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        VoteResponsePayload result = voteResponseService.createVoteResponse(input, userId);
+
+        // then
+        assertEquals(vote.getId(), result.getVoteId());
+        assertEquals("옵션1", result.getOptionContent());
+        assertEquals("테스트 투표", result.getVoteTitle());
+        verify(optionRepository, never()).findWithVoteById(any());
+        verify(voteRepository, never()).findById(any());
+        verify(voteResponseRepository, never()).findByUserIdAndVoteId(any(), any());
+        verify(eventPublisher).publishEvent(any(VoteResponseCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("레지스트리에 없는 투표는 DB로 확인 후 응답 저장 테스트")
+    void createVoteResponse_RegistryMiss() {
+        // given
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.empty());
+        when(optionRepository.findWithVoteById(option.getId())).thenReturn(Optional.of(option));
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        VoteResponsePayload result = voteResponseService.createVoteResponse(input, userId);
+
+        // then
+        assertEquals("옵션1", result.getOptionContent());
+        verify(optionRepository).findWithVoteById(option.getId());
+    }
+
+    @Test
+    @DisplayName("다른 투표의 옵션 선택 시 예외 테스트")
+    void createVoteResponse_OptionNotInVote() {
+        // given
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.of(new OpenVote(
+                vote.getId(), "테스트 투표", LocalDate.now().plusDays(3), Map.of(UUID.randomUUID(), "다른 옵션"))));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> voteResponseService.createVoteResponse(input, userId));
+        verify(voteResponseRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("유니크 제약 위반 시 중복 투표 예외 테스트")
+    void createVoteResponse_Duplicate() {
+        // given
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.empty());
+        when(optionRepository.findWithVoteById(option.getId())).thenReturn(Optional.of(option));
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class))).thenThrow(new DataIntegrityViolationException(
+                "duplicate", new ConstraintViolationException("duplicate", new SQLException(),
+                        VoteResponse.USER_VOTE_UNIQUE_CONSTRAINT)));
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+        assertEquals("이미 이 투표에 참여하셨습니다.", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("사용자 외래 키 위반 시 사용자 없음 예외 테스트")
+    void createVoteResponse_UnknownUser() {
+        // given
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.empty());
+        when(optionRepository.findWithVoteById(option.getId())).thenReturn(Optional.of(option));
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class))).thenThrow(new DataIntegrityViolationException(
+                "fk", new SQLException("Cannot add or update a child row: a foreign key constraint fails "
+                        + "(`upik`.`vote_response`, CONSTRAINT `FK_user` FOREIGN KEY (`user_id`) REFERENCES `user` (`id`))")));
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+        assertEquals("사용자를 찾을 수 없습니다: " + userId, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("사용자와 무관한 무결성 위반은 그대로 전달하는지 테스트")
+    void createVoteResponse_OtherIntegrityViolation() {
+        // given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "fk", new SQLException("Cannot add or update a child row: a foreign key constraint fails "
+                        + "(`upik`.`vote_response`, CONSTRAINT `FK_option` FOREIGN KEY (`option_id`) REFERENCES `option` (`id`))"));
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.empty());
+        when(optionRepository.findWithVoteById(option.getId())).thenReturn(Optional.of(option));
+        when(voteResponseRepository.saveAndFlush(any(VoteResponse.class))).thenThrow(violation);
+
+        // when & then
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> voteResponseService.createVoteResponse(input, userId));
+        assertSame(violation, exception);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("종료된 투표 응답 시 예외 테스트")
+    void createVoteResponse_ClosedVote() {
+        // given
+        vote.setStatus(Vote.Status.CLOSED);
+        when(openVoteRegistry.find(vote.getId())).thenReturn(Optional.empty());
+        when(optionRepository.findWithVoteById(option.getId())).thenReturn(Optional.of(option));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> voteResponseService.createVoteResponse(input, userId));
+        verify(voteResponseRepository, never()).saveAndFlush(any());
+    }
+}
@@ -0,0 +1,108 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.domain.voteResponse.data.DTO.OptionCountPayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResultUpdatePayload;
+import pluto.upik.domain.voteResponse.event.VoteResponseCreatedEvent;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * VoteResultBroadcaster 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteResultBroadcasterTest {
+
+    @Mock
+    private VoteCounterService voteCounterService;
+
+    @InjectMocks
+    private VoteResultBroadcaster voteResultBroadcaster;
+
+    @Test
+    @DisplayName("구독 시 전체 결과 후 주기별 변경분 한 번 전송 테스트")
+    void subscribe_CoalescesChanges() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID firstOptionId = UUID.randomUUID();
+        UUID secondOptionId = UUID.randomUUID();
+        when(voteCounterService.getResponseCounts(List.of(voteId))).thenReturn(Map.of(firstOptionId, 1L));
+        when(voteCounterService.getOptionResponseCount(firstOptionId)).thenReturn(3L);
+        when(voteCounterService.getOptionResponseCount(secondOptionId)).thenReturn(1L);
+        when(voteCounterService.getVoteResponseCount(voteId)).thenReturn(4L);
+
+        List<VoteResultUpdatePayload> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = voteResultBroadcaster.subscribe(voteId).subscribe(received::add);
+
+        // when
+        voteResultBroadcaster.onVoteResponseCreated(new VoteResponseCreatedEvent(voteId, firstOptionId));
+        voteResultBroadcaster.onVoteResponseCreated(new VoteResponseCreatedEvent(voteId, firstOptionId));
+        voteResultBroadcaster.onVoteResponseCreated(new VoteResponseCreatedEvent(voteId, secondOptionId));
+        voteResultBroadcaster.broadcast();
+        voteResultBroadcaster.broadcast();
+
+        // then
+        assertEquals(2, received.size());
+        assertEquals(1, received.get(0).getTotalResponses());
+
+        VoteResultUpdatePayload update = received.get(1);
+        assertEquals(4, update.getTotalResponses());
+        List<UUID> changedOptionIds = new ArrayList<>(update.getOptions().stream()
+                .map(OptionCountPayload::getOptionId)
+                .toList());
+        assertEquals(2, changedOptionIds.size());
+        assertTrue(changedOptionIds.containsAll(List.of(firstOptionId, secondOptionId)));
+
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("현재 값을 읽는 동안 전송된 변경분도 새 구독자에게 전달되는지 테스트")
+    void subscribe_ReceivesUpdateSentDuringSnapshot() {
+        // given
+        UUID voteId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        when(voteCounterService.getResponseCounts(List.of(voteId))).thenAnswer(invocation -> {
+            voteResultBroadcaster.onVoteResponseCreated(new VoteResponseCreatedEvent(voteId, optionId));
+            voteResultBroadcaster.broadcast();
+            return Map.of(optionId, 2L);
+        });
+        when(voteCounterService.getOptionResponseCount(optionId)).thenReturn(2L);
+        when(voteCounterService.getVoteResponseCount(voteId)).thenReturn(2L);
+
+        // when
+        List<VoteResultUpdatePayload> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = voteResultBroadcaster.subscribe(voteId).subscribe(received::add);
+
+        // then
+        assertEquals(2, received.size());
+        assertEquals(2, received.get(0).getTotalResponses());
+        assertEquals(2, received.get(1).getTotalResponses());
+
+        subscription.dispose();
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 투표는 변경분을 기록하지 않음 테스트")
+    void onVoteResponseCreated_WithoutSubscriber_Ignored() {
+        // when
+        voteResultBroadcaster.onVoteResponseCreated(new VoteResponseCreatedEvent(UUID.randomUUID(), UUID.randomUUID()));
+        voteResultBroadcaster.broadcast();
+
+        // then
+        verifyNoInteractions(voteCounterService);
+    }
+}
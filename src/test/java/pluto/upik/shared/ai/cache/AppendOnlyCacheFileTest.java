@@ -0,0 +1,103 @@
+package pluto.upik.shared.ai.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AppendOnlyCacheFile 클래스에 대한 단위 테스트
+ */
+class AppendOnlyCacheFileTest {
+
+    private static final String KEY_A = "a".repeat(64);
+    private static final String KEY_B = "b".repeat(64);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("다시 열어도 기록한 값이 유지되는지 테스트")
+    void reopen_KeepsEntries() throws Exception {
+        // given
+        Path path = tempDir.resolve("cache.log");
+        long now = System.currentTimeMillis();
+        try (AppendOnlyCacheFile cache = new AppendOnlyCacheFile(path, 1024 * 1024)) {
+            cache.put(KEY_A, "첫 번째", now + 60_000, now);
+            cache.put(KEY_A, "두 번째", now + 60_000, now);
+        }
+
+        // when
+        try (AppendOnlyCacheFile reopened = new AppendOnlyCacheFile(path, 1024 * 1024)) {
+            Optional<AppendOnlyCacheFile.Hit> hit = reopened.get(KEY_A, now);
+
+            // then
+            assertTrue(hit.isPresent());
+            assertEquals("두 번째", hit.get().getValue());
+            assertEquals(1, reopened.size());
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 조회되지 않는지 테스트")
+    void get_ExpiredEntry() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        try (AppendOnlyCacheFile cache = new AppendOnlyCacheFile(tempDir.resolve("cache.log"), 1024 * 1024)) {
+            cache.put(KEY_A, "값", now + 1_000, now);
+
+            // when
+            Optional<AppendOnlyCacheFile.Hit> hit = cache.get(KEY_A, now + 2_000);
+
+            // then
+            assertTrue(hit.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래된 항목부터 버리는지 테스트")
+    void put_CompactsWhenOverLimit() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        Path path = tempDir.resolve("cache.log");
+        try (AppendOnlyCacheFile cache = new AppendOnlyCacheFile(path, 200)) {
+            cache.put(KEY_A, "x".repeat(100), now + 60_000, now);
+
+            // when
+            cache.put(KEY_B, "y".repeat(100), now + 60_000, now);
+
+            // then
+            assertTrue(cache.get(KEY_A, now).isEmpty());
+            assertEquals("y".repeat(100), cache.get(KEY_B, now).orElseThrow().getValue());
+            assertTrue(Files.size(path) <= 200);
+        }
+    }
+
+    @Test
+    @DisplayName("끝이 잘린 항목은 버리고 앞의 항목은 유지하는지 테스트")
+    void reopen_TruncatedTail() throws Exception {
+        // given
+        Path path = tempDir.resolve("cache.log");
+        long now = System.currentTimeMillis();
+        try (AppendOnlyCacheFile cache = new AppendOnlyCacheFile(path, 1024 * 1024)) {
+            cache.put(KEY_A, "온전한 값", now + 60_000, now);
+            cache.put(KEY_B, "잘릴 값", now + 60_000, now);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        // when
+        try (AppendOnlyCacheFile reopened = new AppendOnlyCacheFile(path, 1024 * 1024)) {
+            // then
+            assertEquals("온전한 값", reopened.get(KEY_A, now).orElseThrow().getValue());
+            assertTrue(reopened.get(KEY_B, now).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package pluto.upik.shared.ai.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LlmResponseCache 클래스에 대한 단위 테스트
+ */
+class LlmResponseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LlmResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LlmResponseCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "model", "test-model");
+        ReflectionTestUtils.setField(cache, "temperature", "0.7");
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "heapMaxEntries", 10);
+        ReflectionTestUtils.setField(cache, "diskPath", tempDir.resolve("llm-cache.log").toString());
+        ReflectionTestUtils.setField(cache, "diskMaxBytes", 1024L * 1024);
+        cache.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("검증을 통과하지 못한 응답은 저장하지 않고 다음 요청에서 다시 생성하는지 테스트")
+    void getOrCompute_SkipsUncacheableResponse() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String first = cache.getOrCompute("prompt", () -> "broken-" + calls.incrementAndGet(), response -> false);
+        String second = cache.getOrCompute("prompt", () -> "valid-" + calls.incrementAndGet(), response -> true);
+        String third = cache.getOrCompute("prompt", () -> "unused-" + calls.incrementAndGet(), response -> true);
+
+        // then
+        assertEquals("broken-1", first);
+        assertEquals("valid-2", second);
+        assertEquals("valid-2", third);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 스트리밍 응답은 조회되지 않는지 테스트")
+    void get_ReturnsOnlyCommittedResponse() {
+        // when
+        boolean beforePut = cache.get("prompt").isPresent();
+        cache.put("prompt", "response");
+
+        // then
+        assertFalse(beforePut);
+        assertEquals("response", cache.get("prompt").orElseThrow());
+    }
+}
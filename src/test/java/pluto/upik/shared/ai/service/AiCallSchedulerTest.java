@@ -0,0 +1,128 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AiCallScheduler 클래스에 대한 단위 테스트
+ */
+class AiCallSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiCallScheduler scheduler;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new AiCallScheduler(meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(scheduler, "interactiveMaxConcurrency", 1);
+        ReflectionTestUtils.setField(scheduler, "interactiveQueueCapacity", 1);
+        ReflectionTestUtils.setField(scheduler, "backgroundMaxConcurrency", 1);
+        ReflectionTestUtils.setField(scheduler, "backgroundQueueCapacity", 1);
+        ReflectionTestUtils.setField(scheduler, "maxQueueWaitMs", 5000L);
+        scheduler.init();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("슬롯이 비면 INTERACTIVE 대기자가 BACKGROUND 대기자보다 먼저 실행되는지 테스트")
+    void call_InteractiveFirst() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        Future<?> running = executor.submit(() -> scheduler.call(AiCallScheduler.Lane.BACKGROUND, () -> await(release)));
+        waitUntilActive("background", 1);
+
+        Future<?> background = executor.submit(() -> scheduler.call(AiCallScheduler.Lane.BACKGROUND, () -> order.add("background")));
+        waitUntilWaiting("background", 1);
+        Future<?> interactive = executor.submit(() -> scheduler.call(AiCallScheduler.Lane.INTERACTIVE, () -> order.add("interactive")));
+        waitUntilWaiting("interactive", 1);
+
+        // when
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        background.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(List.of("interactive", "background"), order);
+    }
+
+    @Test
+    @DisplayName("레인 대기열이 가득 차면 바로 거절되는지 테스트")
+    void call_RejectsWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> scheduler.call(AiCallScheduler.Lane.BACKGROUND, () -> await(release)));
+        waitUntilActive("background", 1);
+        executor.submit(() -> scheduler.call(AiCallScheduler.Lane.BACKGROUND, () -> true));
+        waitUntilWaiting("background", 1);
+
+        // when & then
+        assertThrows(RejectedExecutionException.class,
+                () -> scheduler.call(AiCallScheduler.Lane.BACKGROUND, () -> true));
+        assertEquals(1.0, meterRegistry.get("upik.ai.scheduler.rejected").tag("lane", "background").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("호출 시간과 대기 시간이 레인별로 기록되는지 테스트")
+    void call_RecordsMetrics() {
+        // when
+        String result = scheduler.call(AiCallScheduler.Lane.INTERACTIVE, () -> "결과");
+
+        // then
+        assertEquals("결과", result);
+        assertEquals(1, meterRegistry.get("upik.ai.scheduler.service-time").tag("lane", "interactive").timer().count());
+        assertEquals(1, meterRegistry.get("upik.ai.scheduler.queue-wait").tag("lane", "interactive").timer().count());
+    }
+
+    private void waitUntilActive(String lane, double expected) throws InterruptedException {
+        waitUntil("upik.ai.scheduler.active", lane, expected);
+    }
+
+    private void waitUntilWaiting(String lane, double expected) throws InterruptedException {
+        waitUntil("upik.ai.scheduler.waiting", lane, expected);
+    }
+
+    private void waitUntil(String gauge, String lane, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get(gauge).tag("lane", lane).gauge().value() != expected) {
+            if (System.currentTimeMillis() > deadline) {
+                fail(gauge + " 값이 " + expected + "이 되지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
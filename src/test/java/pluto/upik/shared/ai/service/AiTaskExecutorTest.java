@@ -0,0 +1,116 @@
+package pluto.upik.shared.ai.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AiTaskExecutor 클래스에 대한 단위 테스트
+ */
+class AiTaskExecutorTest {
+
+    private AiTaskExecutor aiTaskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        aiTaskExecutor = new AiTaskExecutor();
+        ReflectionTestUtils.setField(aiTaskExecutor, "poolSize", 1);
+        ReflectionTestUtils.setField(aiTaskExecutor, "queueCapacity", 1);
+        aiTaskExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 결과를 비동기로 반환하는지 테스트")
+    void submit_ReturnsResult() throws Exception {
+        // when
+        CompletableFuture<String> future = aiTaskExecutor.submit(() -> "결과", Duration.ofSeconds(5));
+
+        // then
+        assertEquals("결과", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 TimeoutException으로 끝나고 실행 중인 작업이 인터럽트되는지 테스트")
+    void submit_TimeoutInterruptsTask() throws Exception {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<String> future = aiTaskExecutor.submit(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "늦은 결과";
+        }, Duration.ofMillis(100));
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 스트리밍 구독이 해제되는지 테스트")
+    void submit_TimeoutCancelsStream() throws Exception {
+        // given
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<String> future = aiTaskExecutor.submit(() -> Flux.<String>never()
+                .doOnCancel(cancelled::countDown)
+                .collect(Collectors.joining())
+                .block(), Duration.ofMillis(100));
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 바로 거절되는지 테스트")
+    void submit_RejectsWhenQueueFull() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        aiTaskExecutor.submit(() -> await(release), Duration.ofSeconds(5));
+        aiTaskExecutor.submit(() -> await(release), Duration.ofSeconds(5));
+
+        // when
+        CompletableFuture<Boolean> rejected = aiTaskExecutor.submit(() -> await(release), Duration.ofSeconds(5));
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        release.countDown();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package pluto.upik.shared.ai.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteService;
+import pluto.upik.shared.ai.data.DTO.GuideDraftDTO;
+import pluto.upik.shared.ai.data.model.GuideGenerationJob;
+import pluto.upik.shared.ai.repository.GuideGenerationJobRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * GuideGenerationJobService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GuideGenerationJobServiceTest {
+
+    @Mock
+    private GuideGenerationJobRepository jobRepository;
+
+    @Mock
+    private GuideRepository guideRepository;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private VoteService voteService;
+
+    @InjectMocks
+    private GuideGenerationJobService guideGenerationJobService;
+
+    @Captor
+    private ArgumentCaptor<List<GuideGenerationJob>> jobsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(guideGenerationJobService, "leaseMs", 600000L);
+        ReflectionTestUtils.setField(guideGenerationJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(guideGenerationJobService, "retryBackoffMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("종료된 투표 중 작업이 없는 투표만 등록하는지 테스트")
+    void closeAndEnqueue_SkipsQueuedVotes() {
+        // given
+        UUID queuedVoteId = UUID.randomUUID();
+        UUID newVoteId = UUID.randomUUID();
+        when(voteService.closeVotes(anyCollection())).thenReturn(List.of(
+                Vote.builder().id(queuedVoteId).category("학교생활").build(),
+                Vote.builder().id(newVoteId).category("학교생활").build()
+        ));
+        when(jobRepository.findByVoteIdIn(anyCollection())).thenReturn(List.of(
+                GuideGenerationJob.pending(queuedVoteId, "학교생활", LocalDateTime.now())
+        ));
+
+        // when
+        int closed = guideGenerationJobService.closeAndEnqueue(List.of(queuedVoteId, newVoteId));
+
+        // then
+        assertEquals(2, closed);
+        verify(jobRepository).saveAll(jobsCaptor.capture());
+        List<GuideGenerationJob> saved = jobsCaptor.getValue();
+        assertEquals(1, saved.size());
+        assertEquals(newVoteId, saved.get(0).getVoteId());
+    }
+
+    @Test
+    @DisplayName("다시 열렸다가 종료된 투표의 끝난 작업을 대기 상태로 되돌리는지 테스트")
+    void closeAndEnqueue_RequeuesFinishedJob() {
+        // given
+        GuideGenerationJob job = runningJob(2);
+        job.complete();
+        when(voteService.closeVotes(anyCollection())).thenReturn(List.of(
+                Vote.builder().id(job.getVoteId()).category("학교생활").build()
+        ));
+        when(jobRepository.findByVoteIdIn(anyCollection())).thenReturn(List.of(job));
+
+        // when
+        guideGenerationJobService.closeAndEnqueue(List.of(job.getVoteId()));
+
+        // then
+        verify(jobRepository).saveAll(jobsCaptor.capture());
+        assertEquals(List.of(job), jobsCaptor.getValue());
+        assertEquals(GuideGenerationJob.Status.PENDING, job.getStatus());
+        assertEquals(0, job.getAttempts());
+        assertNull(job.getLastError());
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패는 백오프 후 다시 대기 상태가 되는지 테스트")
+    void fail_SchedulesRetryWithBackoff() {
+        // given
+        GuideGenerationJob job = runningJob(2);
+        when(jobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        guideGenerationJobService.fail(job, "timeout", true);
+
+        // then
+        assertEquals(GuideGenerationJob.Status.PENDING, job.getStatus());
+        assertFalse(job.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+        assertEquals("timeout", job.getLastError());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 실패 처리되는지 테스트")
+    void fail_MarksFailedAfterMaxAttempts() {
+        // given
+        GuideGenerationJob job = runningJob(3);
+        when(jobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+
+        // when
+        guideGenerationJobService.fail(job, "timeout", true);
+
+        // then
+        assertEquals(GuideGenerationJob.Status.FAILED, job.getStatus());
+    }
+
+    @Test
+    @DisplayName("AI 호출 허가를 받지 못한 작업은 시도 횟수를 늘리지 않고 대기 상태로 되돌리는지 테스트")
+    void release_DoesNotCountAttempt() {
+        // given
+        GuideGenerationJob job = runningJob(3);
+        when(jobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+
+        // when
+        guideGenerationJobService.release(job);
+
+        // then
+        assertEquals(GuideGenerationJob.Status.PENDING, job.getStatus());
+        assertEquals(2, job.getAttempts());
+        assertNull(job.getLockedUntil());
+    }
+
+    @Test
+    @DisplayName("이미 가이드가 있으면 새로 생성한 내용으로 교체하고 완료 처리하는지 테스트")
+    void complete_ReplacesExistingGuide() {
+        // given
+        GuideGenerationJob job = runningJob(1);
+        Guide guide = Guide.builder().id(UUID.randomUUID()).title("이전 제목").content("이전 내용").build();
+        when(jobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+        when(guideRepository.findByVoteId(job.getVoteId())).thenReturn(Optional.of(guide));
+
+        // when
+        guideGenerationJobService.complete(job, new GuideDraftDTO("새 제목", "새 내용"));
+
+        // then
+        assertEquals(GuideGenerationJob.Status.DONE, job.getStatus());
+        assertEquals("새 제목", guide.getTitle());
+        assertEquals("새 내용", guide.getContent());
+        verify(guideRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 작업은 가이드를 다시 저장하지 않는지 테스트")
+    void complete_SkipsDoneJob() {
+        // given
+        GuideGenerationJob job = runningJob(1);
+        job.complete();
+        when(jobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+
+        // when
+        guideGenerationJobService.complete(job, new GuideDraftDTO("새 제목", "새 내용"));
+
+        // then
+        verify(guideRepository, never()).findByVoteId(any());
+        verify(guideRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("점유가 만료되어 다른 워커가 다시 점유한 작업은 실패 처리하지 않는지 테스트")
+    void fail_IgnoresLostClaim() {
+        // given
+        GuideGenerationJob job = runningJob(2);
+        GuideGenerationJob staleClaim = GuideGenerationJob.builder()
+                .id(job.getId())
+                .voteId(job.getVoteId())
+                .status(GuideGenerationJob.Status.RUNNING)
+                .attempts(1)
+                .lockedUntil(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(jobRepository.findByIdForUpdate(job.getId())).thenReturn(Optional.of(job));
+
+        // when
+        guideGenerationJobService.fail(staleClaim, "timeout", false);
+
+        // then
+        assertEquals(GuideGenerationJob.Status.RUNNING, job.getStatus());
+        assertEquals(2, job.getAttempts());
+        assertNull(job.getLastError());
+    }
+
+    private GuideGenerationJob runningJob(int attempts) {
+        GuideGenerationJob job = GuideGenerationJob.pending(UUID.randomUUID(), "학교생활", LocalDateTime.now());
+        for (int i = 0; i < attempts; i++) {
+            job.claim(LocalDateTime.now().plusMinutes(10));
+        }
+        return job;
+    }
+}
@@ -0,0 +1,78 @@
+package pluto.upik.shared.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GuideStreamParser 클래스에 대한 단위 테스트
+ */
+class GuideStreamParserTest {
+
+    @Test
+    @DisplayName("표식이 조각 경계에 걸쳐도 제목과 내용을 나누는지 테스트")
+    void feed_SplitsSectionsAcrossChunks() {
+        // given
+        GuideStreamParser parser = new GuideStreamParser(new GuideStreamParser.Listener() { });
+        String response = "Sure!\nGuide Title:\nStudy Tips\n\nGuide Content:\nSleep well and review daily.";
+
+        // when
+        for (int i = 0; i < response.length(); i += 3) {
+            parser.feed(response.substring(i, Math.min(i + 3, response.length())));
+        }
+        parser.finish();
+
+        // then
+        assertTrue(parser.isComplete());
+        assertEquals("Study Tips", parser.getTitle());
+        assertEquals("Sleep well and review daily.", parser.getContent());
+    }
+
+    @Test
+    @DisplayName("생각 블록을 걸러내고 시작을 알리는지 테스트")
+    void feed_StripsThinkBlocks() {
+        // given
+        List<String> events = new ArrayList<>();
+        GuideStreamParser parser = new GuideStreamParser(new GuideStreamParser.Listener() {
+            @Override
+            public void onThinking() {
+                events.add("thinking");
+            }
+
+            @Override
+            public void onDelta(GuideStreamParser.Section section, String delta) {
+                events.add(section + ":" + delta);
+            }
+        });
+
+        // when
+        parser.feed("<thi");
+        parser.feed("nk>Guide Title: fake</th");
+        parser.feed("ink>Guide Title: Real\nGuide Content: Body");
+        parser.finish();
+
+        // then
+        assertEquals("Real", parser.getTitle());
+        assertEquals("Body", parser.getContent());
+        assertEquals("thinking", events.get(0));
+        assertFalse(events.stream().anyMatch(event -> event.contains("fake")));
+    }
+
+    @Test
+    @DisplayName("구간 표식이 없으면 미완성으로 판단하는지 테스트")
+    void finish_IncompleteWithoutMarkers() {
+        // given
+        GuideStreamParser parser = new GuideStreamParser(new GuideStreamParser.Listener() { });
+
+        // when
+        parser.feed("I cannot help with that.");
+        parser.finish();
+
+        // then
+        assertFalse(parser.isComplete());
+    }
+}
@@ -0,0 +1,114 @@
+package pluto.upik.shared.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+import pluto.upik.shared.ai.config.ChatAiService;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * OllamaModelWarmer 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OllamaModelWarmerTest {
+
+    @Mock
+    private ChatAiService chatAiService;
+
+    @Mock
+    private AiCallScheduler callScheduler;
+
+    private OllamaModelWarmer modelWarmer;
+    private OllamaModelHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        modelWarmer = new OllamaModelWarmer(chatAiService, callScheduler, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(modelWarmer, "enabled", true);
+        ReflectionTestUtils.setField(modelWarmer, "prompt", "Hi");
+        ReflectionTestUtils.setField(modelWarmer, "keepAlive", "10m");
+        ReflectionTestUtils.setField(modelWarmer, "keepAliveIntervalMs", 240000L);
+        modelWarmer.init();
+        healthIndicator = new OllamaModelHealthIndicator(modelWarmer);
+    }
+
+    @Test
+    @DisplayName("예열 중에는 readiness에 OUT_OF_SERVICE를 보고하는지 테스트")
+    void health_OutOfServiceWhileWarming() {
+        // given
+        ReflectionTestUtils.setField(modelWarmer, "state", OllamaModelWarmer.State.WARMING);
+
+        // when & then
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("최근 호출이 있으면 keep-alive 호출을 보내지 않는지 테스트")
+    void keepAlive_SkipsWhenRecentlyUsed() {
+        // given
+        ReflectionTestUtils.setField(modelWarmer, "state", OllamaModelWarmer.State.READY);
+        when(callScheduler.getLastCompletedAt()).thenReturn(System.currentTimeMillis());
+
+        // when
+        modelWarmer.keepAlive();
+
+        // then
+        verifyNoInteractions(chatAiService);
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("유휴 상태이면 keep-alive 호출을 보내고, 예열 실패 상태에서 성공하면 READY가 되는지 테스트")
+    void keepAlive_PingsWhenIdle() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(modelWarmer, "state", OllamaModelWarmer.State.FAILED);
+        when(callScheduler.getLastCompletedAt()).thenReturn(0L);
+
+        // when
+        modelWarmer.keepAlive();
+        awaitKeepAlive();
+
+        // then
+        verify(chatAiService).warmUp(anyString(), eq("10m"));
+        assertEquals(OllamaModelWarmer.State.READY, modelWarmer.getState());
+    }
+
+    @Test
+    @DisplayName("keep-alive 호출은 스케줄링 스레드를 붙잡지 않고, 이전 호출이 끝나기 전에는 다시 보내지 않는지 테스트")
+    void keepAlive_RunsOffSchedulingThread() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(modelWarmer, "state", OllamaModelWarmer.State.READY);
+        when(callScheduler.getLastCompletedAt()).thenReturn(0L);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(chatAiService).warmUp(anyString(), anyString());
+
+        // when
+        modelWarmer.keepAlive();
+        modelWarmer.keepAlive();
+        release.countDown();
+        awaitKeepAlive();
+
+        // then
+        verify(chatAiService, times(1)).warmUp(anyString(), anyString());
+    }
+
+    private void awaitKeepAlive() throws InterruptedException {
+        Thread thread = (Thread) ReflectionTestUtils.getField(modelWarmer, "keepAliveThread");
+        assertNotNull(thread);
+        thread.join(5000);
+    }
+}
@@ -0,0 +1,73 @@
+package pluto.upik.shared.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pluto.upik.shared.ai.data.DTO.GuideDraftDTO;
+import pluto.upik.shared.exception.StructuredOutputException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StructuredJsonReader 클래스에 대한 단위 테스트
+ */
+class StructuredJsonReaderTest {
+
+    private static final StructuredOutput<GuideDraftDTO> GUIDE_OUTPUT = new StructuredOutput<>(
+            "guide", StructuredOutput.stringObjectSchema("title", "content"), GuideDraftDTO.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("조각으로 나뉜 JSON 응답을 타입으로 매핑하는지 테스트")
+    void feed_MapsChunkedResponse() {
+        // given
+        StructuredJsonReader<GuideDraftDTO> reader = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+
+        // when
+        for (String chunk : new String[]{"<think>고민", " 중</think>\n {\"ti", "tle\": \"Lunch\", ", "\"content\": \"Eat ", "pizza.\"}"}) {
+            reader.feed(chunk);
+        }
+        GuideDraftDTO draft = reader.finish();
+
+        // then
+        assertTrue(reader.isComplete());
+        assertEquals("Lunch", draft.getTitle());
+        assertEquals("Eat pizza.", draft.getContent());
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 글로 시작하면 첫 조각에서 바로 실패하는지 테스트")
+    void feed_FailsFastOnPlainText() {
+        // given
+        StructuredJsonReader<GuideDraftDTO> reader = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+
+        // when & then
+        assertThrows(StructuredOutputException.class, () -> reader.feed("Guide Title: Lunch"));
+    }
+
+    @Test
+    @DisplayName("스키마에 없는 속성이나 다른 타입의 값이 나오면 바로 실패하는지 테스트")
+    void feed_FailsFastOnSchemaMismatch() {
+        // given
+        StructuredJsonReader<GuideDraftDTO> unknownField = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+        StructuredJsonReader<GuideDraftDTO> wrongType = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+
+        // when & then
+        assertThrows(StructuredOutputException.class, () -> unknownField.feed("{\"summary\": "));
+        assertThrows(StructuredOutputException.class, () -> wrongType.feed("{\"title\": 42, "));
+    }
+
+    @Test
+    @DisplayName("필수 속성이 없거나 응답이 끝나지 않으면 실패하는지 테스트")
+    void finish_FailsOnMissingOrIncompleteResponse() {
+        // given
+        StructuredJsonReader<GuideDraftDTO> missing = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+        StructuredJsonReader<GuideDraftDTO> incomplete = new StructuredJsonReader<>(objectMapper, GUIDE_OUTPUT);
+        incomplete.feed("{\"title\": \"Lunch\"");
+
+        // when & then
+        assertThrows(StructuredOutputException.class, () -> missing.feed("{\"title\": \"Lunch\"}"));
+        assertThrows(StructuredOutputException.class, incomplete::finish);
+    }
+}
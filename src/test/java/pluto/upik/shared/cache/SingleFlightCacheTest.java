@@ -0,0 +1,118 @@
+package pluto.upik.shared.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlightCache 클래스에 대한 단위 테스트
+ */
+class SingleFlightCacheTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 요청이 한 번만 계산되는지 테스트")
+    void get_CoalescesConcurrentRequests() throws Exception {
+        // given
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(Duration.ofMinutes(1), 100, value -> true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> cache.get("피자", () -> {
+                calls.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "결과";
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertEquals("결과", future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("완료된 결과가 캐시되는지 테스트")
+    void get_CachesCompletedResult() {
+        // given
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(Duration.ofMinutes(1), 100, value -> true);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.get("키", () -> "값" + calls.incrementAndGet());
+        String second = cache.get("키", () -> "값" + calls.incrementAndGet());
+
+        // then
+        assertEquals("값1", second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("캐시 조건을 만족하지 않거나 예외로 끝난 결과는 다시 계산하는지 테스트")
+    void get_DoesNotCacheFailures() {
+        // given
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(Duration.ofMinutes(1), 100,
+                value -> !value.startsWith("실패"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.get("키", () -> "실패" + calls.incrementAndGet());
+        assertThrows(IllegalStateException.class, () -> cache.get("키", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("오류");
+        }));
+        String third = cache.get("키", () -> "성공" + calls.incrementAndGet());
+
+        // then
+        assertEquals("성공3", third);
+    }
+
+    @Test
+    @DisplayName("비동기 요청도 한 번만 시작되고 호출자의 취소가 다른 호출자에게 번지지 않는지 테스트")
+    void getAsync_CoalescesAndIsolatesCallers() throws Exception {
+        // given
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(Duration.ofMinutes(1), 100, value -> true);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> loading = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<String> first = cache.getAsync("키", () -> {
+            calls.incrementAndGet();
+            return loading;
+        });
+        CompletableFuture<String> second = cache.getAsync("키", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("다른 값");
+        });
+        first.cancel(true);
+        loading.complete("값");
+
+        // then
+        assertTrue(first.isCancelled());
+        assertEquals("값", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,66 @@
+package pluto.upik.shared.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HashedTimingWheel 클래스에 대한 단위 테스트
+ */
+class HashedTimingWheelTest {
+
+    @Test
+    @DisplayName("지정한 틱이 지나야 항목이 만료되는지 테스트")
+    void advance_ExpiresAfterDelay() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8);
+        wheel.schedule("a", 2);
+
+        // when
+        List<String> first = wheel.advance();
+        List<String> second = wheel.advance();
+        List<String> third = wheel.advance();
+
+        // then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        assertEquals(List.of("a"), third);
+    }
+
+    @Test
+    @DisplayName("휠 크기보다 긴 지연도 한 바퀴 돈 뒤 만료되는지 테스트")
+    void advance_DelayLongerThanWheel() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(4);
+        wheel.schedule("late", 5);
+
+        // when
+        int expiredAt = -1;
+        for (int tick = 0; tick < 10; tick++) {
+            if (!wheel.advance().isEmpty()) {
+                expiredAt = tick;
+                break;
+            }
+        }
+
+        // then
+        assertEquals(5, expiredAt);
+    }
+
+    @Test
+    @DisplayName("이미 지난 항목은 다음 틱에 바로 만료되는지 테스트")
+    void advance_PastDeadlineExpiresImmediately() {
+        // given
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(4);
+        wheel.schedule("past", -10);
+
+        // when
+        List<String> expired = wheel.advance();
+
+        // then
+        assertEquals(List.of("past"), expired);
+    }
+}
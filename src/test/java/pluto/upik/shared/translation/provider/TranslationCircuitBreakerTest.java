@@ -0,0 +1,72 @@
+package pluto.upik.shared.translation.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TranslationCircuitBreaker 클래스에 대한 단위 테스트
+ */
+class TranslationCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TranslationCircuitBreaker circuitBreaker = new TranslationCircuitBreaker(3, 1_000, now::get);
+
+    @Test
+    @DisplayName("연속 실패가 기준에 이르면 호출을 막는지 테스트")
+    void onFailure_OpensAfterThreshold() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onFailure();
+        }
+
+        // then
+        assertEquals(TranslationCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 시험 호출 하나만 허용하고 성공 시 닫히는지 테스트")
+    void tryAcquire_HalfOpenAllowsSingleTrial() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        now.addAndGet(1_000);
+
+        // when
+        boolean trial = circuitBreaker.tryAcquire();
+        boolean concurrent = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertEquals(TranslationCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 차단하는지 테스트")
+    void onFailure_ReopensFromHalfOpen() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        now.addAndGet(1_000);
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertEquals(TranslationCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+}
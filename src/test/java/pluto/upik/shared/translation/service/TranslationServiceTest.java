@@ -0,0 +1,179 @@
+package pluto.upik.shared.translation.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pluto.upik.shared.translation.data.model.TranslationCache;
+import pluto.upik.shared.translation.data.model.TranslationCacheId;
+import pluto.upik.shared.translation.provider.TranslationCircuitBreaker;
+import pluto.upik.shared.translation.provider.TranslationProvider;
+import pluto.upik.shared.translation.repository.TranslationCacheRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TranslationService 클래스에 대한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TranslationServiceTest {
+
+    @Mock
+    private TranslationProvider translationProvider;
+
+    @Mock
+    private TranslationCacheRepository translationCacheRepository;
+
+    private TranslationCircuitBreaker circuitBreaker;
+
+    private TranslationService translationService;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new TranslationCircuitBreaker(2, 60_000);
+        translationService = new TranslationService(translationProvider, circuitBreaker, translationCacheRepository, 100);
+    }
+
+    @Test
+    @DisplayName("이미 영어인 텍스트는 번역하지 않는지 테스트")
+    void translateKoreanToEnglish_SkipsEnglishText() {
+        // when
+        String result = translationService.translateKoreanToEnglish("What is your favorite food?");
+
+        // then
+        assertEquals("What is your favorite food?", result);
+        verifyNoInteractions(translationCacheRepository);
+    }
+
+    @Test
+    @DisplayName("이미 한국어인 텍스트는 번역하지 않는지 테스트")
+    void translateEnglishToKorean_SkipsKoreanText() {
+        // when
+        String result = translationService.translateEnglishToKorean("좋아하는 음식은 무엇인가요? (1~3개)");
+
+        // then
+        assertEquals("좋아하는 음식은 무엇인가요? (1~3개)", result);
+        verifyNoInteractions(translationCacheRepository);
+    }
+
+    @Test
+    @DisplayName("번역 캐시 테이블에 있으면 메모리에 올리고 다시 조회하지 않는지 테스트")
+    void translateKoreanToEnglish_UsesStoredTranslation() {
+        // given
+        when(translationCacheRepository.findById(any(TranslationCacheId.class))).thenReturn(Optional.of(
+                TranslationCache.builder()
+                        .textHash("hash")
+                        .langpair("ko|en")
+                        .translatedText("Favorite food")
+                        .createdAt(LocalDateTime.now())
+                        .build()
+        ));
+
+        // when
+        String first = translationService.translateKoreanToEnglish("좋아하는 음식");
+        String second = translationService.translateKoreanToEnglish("좋아하는 음식");
+
+        // then
+        assertEquals("Favorite food", first);
+        assertEquals("Favorite food", second);
+        verify(translationCacheRepository, times(1)).findById(any(TranslationCacheId.class));
+    }
+
+    @Test
+    @DisplayName("실제 번역을 하지 않는 제공자의 결과는 번역 캐시 테이블을 사용하지 않는지 테스트")
+    void translateKoreanToEnglish_SkipsTableForSimulatedProvider() {
+        // given
+        when(translationProvider.isSimulated()).thenReturn(true);
+        when(translationProvider.translate("좋아하는 음식", "ko", "en")).thenReturn("[en] 좋아하는 음식");
+        TranslationService localTranslationService =
+                new TranslationService(translationProvider, circuitBreaker, translationCacheRepository, 100);
+
+        // when
+        String first = localTranslationService.translateKoreanToEnglish("좋아하는 음식");
+        String second = localTranslationService.translateKoreanToEnglish("좋아하는 음식");
+
+        // then
+        assertEquals("[en] 좋아하는 음식", first);
+        assertEquals("[en] 좋아하는 음식", second);
+        verify(translationProvider, times(1)).translate(anyString(), anyString(), anyString());
+        verifyNoInteractions(translationCacheRepository);
+    }
+
+    @Test
+    @DisplayName("여러 텍스트를 한 번의 요청으로 묶어 번역하는지 테스트")
+    void translateBatch_PacksIntoOneRequest() {
+        // given
+        TranslationService service = spy(translationService);
+        when(translationCacheRepository.findById(any(TranslationCacheId.class))).thenReturn(Optional.empty());
+        doReturn("피자 ||| 치킨 ||| 떡볶이").when(service)
+                .requestTranslation("Pizza ||| Chicken ||| Tteokbokki", "en", "ko");
+
+        // when
+        List<String> result = service.translateBatch(List.of("Pizza", "Chicken", "Tteokbokki"), "en|ko");
+
+        // then
+        assertEquals(List.of("피자", "치킨", "떡볶이"), result);
+        verify(service, times(1)).requestTranslation(anyString(), eq("en"), eq("ko"));
+    }
+
+    @Test
+    @DisplayName("묶음 결과 개수가 맞지 않으면 항목별로 번역하는지 테스트")
+    void translateBatch_FallsBackPerItemOnMismatch() {
+        // given
+        TranslationService service = spy(translationService);
+        when(translationCacheRepository.findById(any(TranslationCacheId.class))).thenReturn(Optional.empty());
+        doReturn("피자와 치킨").when(service).requestTranslation("Pizza ||| Chicken", "en", "ko");
+        doReturn("피자").when(service).requestTranslation("Pizza", "en", "ko");
+        doReturn("치킨").when(service).requestTranslation("Chicken", "en", "ko");
+
+        // when
+        List<String> result = service.translateBatch(List.of("Pizza", "Chicken"), "en|ko");
+
+        // then
+        assertEquals(List.of("피자", "치킨"), result);
+    }
+
+    @Test
+    @DisplayName("번역이 필요 없는 항목은 묶음에서 빠지는지 테스트")
+    void translateBatch_SkipsTargetScriptItems() {
+        // given
+        TranslationService service = spy(translationService);
+        when(translationCacheRepository.findById(any(TranslationCacheId.class))).thenReturn(Optional.empty());
+        doReturn("피자").when(service).requestTranslation("Pizza", "en", "ko");
+
+        // when
+        List<String> result = service.translateBatch(List.of("치킨", "Pizza"), "en|ko");
+
+        // then
+        assertEquals(List.of("치킨", "피자"), result);
+        verify(service, times(1)).requestTranslation(anyString(), eq("en"), eq("ko"));
+    }
+
+    @Test
+    @DisplayName("제공자 연속 실패 후에는 호출하지 않고 원문을 반환하는지 테스트")
+    void translateKoreanToEnglish_FailsFastWhenCircuitOpen() {
+        // given
+        when(translationCacheRepository.findById(any(TranslationCacheId.class))).thenReturn(Optional.empty());
+        when(translationProvider.translate(anyString(), eq("ko"), eq("en"))).thenThrow(new IllegalStateException("timeout"));
+        translationService.translateKoreanToEnglish("첫 번째");
+        translationService.translateKoreanToEnglish("두 번째");
+
+        // when
+        String result = translationService.translateKoreanToEnglish("세 번째");
+
+        // then
+        assertEquals("세 번째", result);
+        assertEquals(TranslationCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        verify(translationProvider, times(2)).translate(anyString(), eq("ko"), eq("en"));
+    }
+}